@@ -4,8 +4,15 @@ import net.voidhttp.optionparser.Option;
 import net.voidhttp.optionparser.OptionBuilder;
 import net.voidhttp.optionparser.OptionParser;
 import net.voidhttp.optionparser.OptionType;
+import org.voidlang.compiler.cli.CacheServer;
 import org.voidlang.compiler.cli.Compiler;
 import org.voidlang.compiler.cli.Generator;
+import org.voidlang.compiler.cli.ObjectCache;
+import org.voidlang.compiler.cli.OptimizationLevel;
+import org.voidlang.compiler.util.Validate;
+
+import java.io.IOException;
+import java.net.InetAddress;
 
 public class Main {
     public static void main(String[] args) {
@@ -29,12 +36,209 @@ public class Main {
 
         parser.addOption(compileOption);
 
+        Option runOption = new OptionBuilder()
+            .setName("run")
+            .setType(OptionType.TEXT)
+            .setAliases("-r", "--run")
+            .setHelp("compile a Void project and run it in-process, without linking an executable")
+            .build();
+
+        parser.addOption(runOption);
+
+        Option jobsOption = new OptionBuilder()
+            .setName("jobs")
+            .setType(OptionType.TEXT)
+            .setAliases("-j", "--jobs")
+            .setHelp("the number of worker threads used for compiling, 0 to use all cores")
+            .build();
+
+        parser.addOption(jobsOption);
+
+        Option emitBitcodeOption = new OptionBuilder()
+            .setName("emit-bitcode")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--emit-bitcode")
+            .setHelp("write the LLVM bitcode of the compiled modules")
+            .build();
+
+        parser.addOption(emitBitcodeOption);
+
+        Option clangOption = new OptionBuilder()
+            .setName("clang")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--clang")
+            .setHelp("compile the object files using clang instead of the built-in emitter")
+            .build();
+
+        parser.addOption(clangOption);
+
+        Option optLevelOption = new OptionBuilder()
+            .setName("opt-level")
+            .setType(OptionType.TEXT)
+            .setAliases("-O", "--opt-level")
+            .setHelp("the optimization level of the generated code: 0, 1, 2, 3, s or z, that is 2 by default")
+            .build();
+
+        parser.addOption(optLevelOption);
+
+        Option noCacheOption = new OptionBuilder()
+            .setName("no-cache")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--no-cache")
+            .setHelp("do not reuse the object files, that are cached in ~/.void/cache")
+            .build();
+
+        parser.addOption(noCacheOption);
+
+        Option noRunOption = new OptionBuilder()
+            .setName("no-run")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--no-run")
+            .setHelp("do not run the executable after compiling the project")
+            .build();
+
+        parser.addOption(noRunOption);
+
+        Option remoteCacheOption = new OptionBuilder()
+            .setName("remote-cache")
+            .setType(OptionType.TEXT)
+            .setAliases("--remote-cache")
+            .setHelp("the address of a shared object cache server, such as http://localhost:8700")
+            .build();
+
+        parser.addOption(remoteCacheOption);
+
+        Option cacheServerOption = new OptionBuilder()
+            .setName("cache-server")
+            .setType(OptionType.TEXT)
+            .setAliases("--cache-server")
+            .setHelp("serve the objects of ~/.void/cache to other machines on the specified port")
+            .build();
+
+        parser.addOption(cacheServerOption);
+
+        Option cacheHostOption = new OptionBuilder()
+            .setName("cache-host")
+            .setType(OptionType.TEXT)
+            .setAliases("--cache-host")
+            .setHelp("the address that the cache server listens on, that is the loopback interface by default")
+            .build();
+
+        parser.addOption(cacheHostOption);
+
+        Option cacheTokenOption = new OptionBuilder()
+            .setName("cache-token")
+            .setType(OptionType.TEXT)
+            .setAliases("--cache-token")
+            .setHelp("the token that authorizes uploads to the cache server, defaults to $VOID_CACHE_TOKEN")
+            .build();
+
+        parser.addOption(cacheTokenOption);
+
+        Option watchOption = new OptionBuilder()
+            .setName("watch")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("-w", "--watch")
+            .setHelp("recompile the project whenever a source file changes")
+            .build();
+
+        parser.addOption(watchOption);
+
+        Option lazyOption = new OptionBuilder()
+            .setName("lazy")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--lazy")
+            .setHelp("generate only the methods, that are reachable from main, when running a project")
+            .build();
+
+        parser.addOption(lazyOption);
+
+        Option timeReportOption = new OptionBuilder()
+            .setName("time-report")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--time-report")
+            .setHelp("display the time spent in each compilation phase, and write it to target/time-report.json")
+            .build();
+
+        parser.addOption(timeReportOption);
+
+        Option traceOption = new OptionBuilder()
+            .setName("trace")
+            .setType(OptionType.BOOLEAN)
+            .setAliases("--trace")
+            .setHelp("write the activity of the compiler threads to target/trace.json in Chrome trace format")
+            .build();
+
+        parser.addOption(traceOption);
+
         parser.parse(args);
 
+        String cacheToken = cacheTokenOption.isPresent()
+            ? cacheTokenOption.stringValue()
+            : System.getenv("VOID_CACHE_TOKEN");
+
         if (newOption.isPresent())
             new Generator(newOption.stringValue()).generate();
 
-        else if (compileOption.isPresent())
-            new Compiler(compileOption.stringValue()).compile();
+        else if (compileOption.isPresent() || runOption.isPresent()) {
+            String project = compileOption.isPresent() ? compileOption.stringValue() : runOption.stringValue();
+            Compiler compiler = new Compiler(project);
+            if (jobsOption.isPresent())
+                compiler.setJobs(parseInt(jobsOption, "jobs"));
+            compiler.setEmitBitcode(emitBitcodeOption.isPresent());
+            compiler.setUseClang(clangOption.isPresent());
+            compiler.setNoCache(noCacheOption.isPresent());
+            compiler.setNoRun(noRunOption.isPresent());
+            if (remoteCacheOption.isPresent())
+                compiler.setRemoteCacheUrl(remoteCacheOption.stringValue());
+            compiler.setRemoteCacheToken(cacheToken);
+            compiler.setRunInMemory(runOption.isPresent());
+            compiler.setLazy(lazyOption.isPresent());
+            compiler.setTimeReport(timeReportOption.isPresent());
+            compiler.setTrace(traceOption.isPresent());
+            if (optLevelOption.isPresent()) {
+                OptimizationLevel level = OptimizationLevel.parse(optLevelOption.stringValue());
+                if (level == null)
+                    Validate.panic("Invalid optimization level: " + optLevelOption.stringValue());
+                compiler.setOptimizationLevel(level);
+            }
+            if (watchOption.isPresent())
+                compiler.watch();
+            else
+                compiler.compile();
+        }
+
+        else if (cacheServerOption.isPresent())
+            serveCache(
+                cacheHostOption.isPresent() ? cacheHostOption.stringValue() : null,
+                parseInt(cacheServerOption, "cache-server"),
+                cacheToken
+            );
+    }
+
+    private static void serveCache(String host, int port, String token) {
+        ObjectCache cache = ObjectCache.createDefault();
+        if (cache == null)
+            Validate.panic("Unable to create the object cache directory");
+
+        try {
+            InetAddress address = host != null ? InetAddress.getByName(host) : InetAddress.getLoopbackAddress();
+            CacheServer server = CacheServer.start(address, port, cache, token);
+            System.out.println("Serving the object cache on " + address.getHostAddress() + ":" + server.getPort() +
+                (token == null ? " (read-only, no upload token is set)" : ""));
+            Thread.currentThread().join();
+        } catch (IOException e) {
+            Validate.panic("Unable to start the cache server: " + e.getMessage());
+        } catch (InterruptedException ignored) {
+        }
+    }
+
+    private static int parseInt(Option option, String name) {
+        try {
+            return Integer.parseInt(option.stringValue());
+        } catch (NumberFormatException e) {
+            Validate.panic("Invalid value for " + name + ": " + option.stringValue());
+            return 0;
+        }
     }
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package org.voidlang.compiler.builder;
 
 import lombok.Getter;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 public class Application {
-    private final Map<String, Package> packages = new HashMap<>();
+    private final Map<String, Package> packages = new ConcurrentHashMap<>();
 
     public Package getPackage(String name) {
         return packages.get(name);
@@ -17,22 +17,24 @@ import org.voidlang.compiler.node.type.named.MethodParameter;
 import org.voidlang.llvm.element.IRValue;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @RequiredArgsConstructor
 @Getter
 @NodeInfo(type = NodeType.ROOT)
 public class Package extends Node {
-    private final Map<String, Package> packages = new HashMap<>();
+    private final Map<String, Package> packages = new ConcurrentHashMap<>();
 
     private final List<ImportNode> imports = new ArrayList<>();
 
     private final List<ImportNode> usings = new ArrayList<>();
 
-    private final Map<String, List<Method>> methods = new HashMap<>();
+    private final Map<String, List<Method>> methods = new ConcurrentHashMap<>();
 
-    private final Map<String, Class> classes = new HashMap<>();
+    private final Map<String, Class> classes = new ConcurrentHashMap<>();
 
-    private final Map<String, Struct> structs = new HashMap<>();
+    private final Map<String, Struct> structs = new ConcurrentHashMap<>();
 
     private final Application application;
 
@@ -301,7 +303,7 @@ public class Package extends Node {
 
     public void defineMethod(Method method) {
         methods
-            .computeIfAbsent(method.getName(), name -> new ArrayList<>())
+            .computeIfAbsent(method.getName(), name -> new CopyOnWriteArrayList<>())
             .add(method);
     }
 
@@ -313,6 +315,33 @@ public class Package extends Node {
         structs.put(struct.getName(), struct);
     }
 
+    /**
+     * Get the root packages, that this package or any of its nested packages import or use.
+     * @return the packages that this package depends on
+     */
+    public Set<Package> getDependencies() {
+        Set<Package> dependencies = new HashSet<>();
+        collectDependencies(dependencies);
+        dependencies.remove(this);
+        return dependencies;
+    }
+
+    private void collectDependencies(Set<Package> dependencies) {
+        for (ImportNode node : imports) {
+            Package pkg = application.getPackage(node.getName());
+            if (pkg != null)
+                dependencies.add(pkg);
+        }
+        for (ImportNode node : usings) {
+            Package pkg = application.getPackage(node.getName());
+            if (pkg != null)
+                dependencies.add(pkg);
+        }
+
+        for (Package pkg : packages.values())
+            pkg.collectDependencies(dependencies);
+    }
+
     public void addAndMergeImport(ImportNode target) {
         for (ImportNode node : imports) {
             if (!node.getName().equals(target.getName()))
@@ -0,0 +1,398 @@
+package org.voidlang.compiler.builder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+import org.voidlang.compiler.node.Generator;
+import org.voidlang.compiler.node.Node;
+import org.voidlang.compiler.node.element.*;
+import org.voidlang.compiler.node.element.Class;
+import org.voidlang.compiler.node.type.QualifiedName;
+import org.voidlang.compiler.node.type.array.Array;
+import org.voidlang.compiler.node.type.array.Dimension;
+import org.voidlang.compiler.node.type.core.ScalarType;
+import org.voidlang.compiler.node.type.core.Type;
+import org.voidlang.compiler.node.type.generic.GenericArgumentList;
+import org.voidlang.compiler.node.type.generic.GenericTypeList;
+import org.voidlang.compiler.node.type.name.ScalarName;
+import org.voidlang.compiler.node.type.named.MethodParameter;
+import org.voidlang.compiler.node.type.named.NamedScalarType;
+import org.voidlang.compiler.node.type.pointer.Referencing;
+import org.voidlang.compiler.node.type.pointer.ReferencingType;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenType;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the declarations of a package, that other packages may depend on. The interface is written
+ * after the package is compiled, so that the following builds can load the declarations of the unchanged
+ * package, without tokenizing and parsing its source files again.
+ * <br>
+ * Methods are loaded as body-less {@link CachedMethod}s, that keep the name they were registered as,
+ * and classes and structs are loaded with their fields and their methods, that are cached the same way.
+ */
+@RequiredArgsConstructor
+@Getter
+public class PackageInterface {
+    /**
+     * The header of the interface files.
+     */
+    private static final int MAGIC = 0x564F4944;
+
+    /**
+     * The version of the interface format. Interfaces of a different version are ignored.
+     */
+    private static final int VERSION = 3;
+
+    private static final int SCALAR_TYPE = 0;
+    private static final int NAMED_SCALAR_TYPE = 1;
+
+    /**
+     * The name of the package.
+     */
+    private final String name;
+
+    /**
+     * The unique names of all the methods, that were registered by the package.
+     */
+    private final List<String> reservedNames;
+
+    /**
+     * The top-level methods of the package.
+     */
+    private final List<CachedMethod> methods;
+
+    /**
+     * The classes of the package.
+     */
+    private final List<Class> classes;
+
+    /**
+     * The structs of the package.
+     */
+    private final List<Struct> structs;
+
+    /**
+     * The nested packages of the package.
+     */
+    private final List<PackageInterface> packages;
+
+    /**
+     * Indicate, whether the interface reserves the names of all its methods. The methods of the recompiled
+     * packages are given unique names in the order that they are processed, therefore skipping a package
+     * is only safe, if its names are reserved before, otherwise they could be handed out to other methods.
+     * @return true if the object file of the package can be reused
+     */
+    public boolean reservesNames() {
+        Set<String> names = new HashSet<>(reservedNames);
+        return methods.stream().allMatch(method -> names.contains(method.getTargetName()));
+    }
+
+    /**
+     * Define the declarations of the interface in the specified package.
+     * @param application the application that the package belongs to
+     * @param pkg the package to define the declarations in
+     */
+    public void define(Application application, Package pkg) {
+        Generator generator = pkg.getGenerator();
+
+        reservedNames.forEach(Method::reserveName);
+
+        for (Class clazz : classes) {
+            clazz.preProcess(pkg);
+            clazz.generateType(generator.getContext());
+            pkg.defineClass(clazz);
+        }
+
+        for (Struct struct : structs) {
+            struct.preProcess(pkg);
+            struct.generateType(generator.getContext());
+            pkg.defineStruct(struct);
+        }
+
+        for (CachedMethod method : methods) {
+            method.preProcess(pkg);
+            pkg.defineMethod(method);
+        }
+
+        for (PackageInterface child : packages) {
+            Package nested = pkg.getPackages().get(child.name);
+            if (nested == null) {
+                nested = new Package(application, generator, child.name);
+                nested.setParentPkg(pkg);
+                pkg.getPackages().put(child.name, nested);
+            }
+            child.define(application, nested);
+        }
+    }
+
+    /**
+     * Write the interface of the specified package to the file.
+     * @param pkg the compiled package
+     * @param file the target interface file
+     * @return true if the interface has been written, false if the package declares something,
+     * that cannot be represented by the interface format
+     */
+    public static boolean write(Package pkg, File file) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writePackage(out, pkg);
+        } catch (IOException | IllegalArgumentException e) {
+            file.delete();
+            return false;
+        }
+
+        try {
+            Files.write(file.toPath(), buffer.toByteArray());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Read a package interface from the specified file.
+     * @param file the interface file
+     * @return the package interface, or null if the file is missing or malformed
+     */
+    @Nullable
+    public static PackageInterface read(File file) {
+        if (!file.isFile())
+            return null;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return null;
+            return readPackage(in);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writePackage(DataOutputStream out, Package pkg) throws IOException {
+        out.writeUTF(pkg.getName());
+
+        // imported methods are declared by other packages, therefore they are not a part of the interface
+        List<Method> methods = pkg
+            .getMethods()
+            .values()
+            .stream()
+            .flatMap(List::stream)
+            .filter(method -> !(method instanceof ImportedMethod))
+            .toList();
+
+        List<String> reservedNames = new ArrayList<>();
+        methods.forEach(method -> reservedNames.add(method.getUniqueName()));
+        pkg.getClasses().values().forEach(clazz -> collectNames(clazz.getMethods().values(), reservedNames));
+        pkg.getStructs().values().forEach(struct -> collectNames(struct.getMethods().values(), reservedNames));
+
+        out.writeInt(reservedNames.size());
+        for (String reservedName : reservedNames)
+            out.writeUTF(reservedName);
+
+        writeMethods(out, methods);
+
+        out.writeInt(pkg.getClasses().size());
+        for (Class clazz : pkg.getClasses().values())
+            writeElement(out, clazz.getName(), clazz.getGenerics(), clazz.getFields().values(), clazz.getMethods());
+
+        out.writeInt(pkg.getStructs().size());
+        for (Struct struct : pkg.getStructs().values())
+            writeElement(out, struct.getName(), struct.getGenerics(), struct.getFields().values(), struct.getMethods());
+
+        out.writeInt(pkg.getPackages().size());
+        for (Package child : pkg.getPackages().values())
+            writePackage(out, child);
+    }
+
+    private static PackageInterface readPackage(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+
+        List<String> reservedNames = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--)
+            reservedNames.add(in.readUTF());
+
+        List<CachedMethod> methods = readMethods(in);
+
+        List<Class> classes = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String className = in.readUTF();
+            classes.add(new Class(className, new GenericTypeList(new ArrayList<>(), false), readBody(in)));
+        }
+
+        List<Struct> structs = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String structName = in.readUTF();
+            structs.add(new Struct(structName, new GenericTypeList(new ArrayList<>(), false), readBody(in)));
+        }
+
+        List<PackageInterface> packages = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--)
+            packages.add(readPackage(in));
+
+        return new PackageInterface(name, reservedNames, methods, classes, structs, packages);
+    }
+
+    private static void collectNames(Collection<List<Method>> methods, List<String> names) {
+        for (List<Method> methodList : methods) {
+            for (Method method : methodList)
+                names.add(method.getUniqueName());
+        }
+    }
+
+    private static void writeMethods(DataOutputStream out, List<Method> methods) throws IOException {
+        out.writeInt(methods.size());
+        for (Method method : methods) {
+            out.writeUTF(method.getName());
+            out.writeUTF(method.getFinalName());
+            writeType(out, method.getReturnType());
+            out.writeInt(method.getParameters().size());
+            for (MethodParameter parameter : method.getParameters()) {
+                if (!(parameter.getName() instanceof ScalarName paramName))
+                    throw new IllegalArgumentException("Unsupported parameter name " + parameter.getName());
+                writeType(out, parameter.getType());
+                out.writeBoolean(parameter.isVariadic());
+                out.writeUTF(paramName.getValue());
+            }
+        }
+    }
+
+    private static List<CachedMethod> readMethods(DataInputStream in) throws IOException {
+        List<CachedMethod> methods = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String methodName = in.readUTF();
+            String finalName = in.readUTF();
+            Type returnType = readType(in);
+            List<MethodParameter> parameters = new ArrayList<>();
+            for (int j = in.readInt(); j > 0; j--) {
+                Type type = readType(in);
+                boolean variadic = in.readBoolean();
+                parameters.add(new MethodParameter(type, variadic, new ScalarName(in.readUTF())));
+            }
+            methods.add(new CachedMethod(returnType, methodName, parameters, finalName));
+        }
+        return methods;
+    }
+
+    private static void writeElement(
+        DataOutputStream out, String name, GenericTypeList generics, Collection<Field> fields,
+        Map<String, List<Method>> methods
+    ) throws IOException {
+        if (generics.isExplicit())
+            throw new IllegalArgumentException("Unsupported generic element " + name);
+
+        out.writeUTF(name);
+        out.writeInt(fields.size());
+        for (Field field : fields) {
+            out.writeUTF(field.getName());
+            writeType(out, field.getDeclaredType());
+        }
+
+        // the methods already have the name of the element in their final names
+        writeMethods(out, methods.values().stream().flatMap(List::stream).toList());
+    }
+
+    private static List<Node> readBody(DataInputStream in) throws IOException {
+        List<Node> body = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            String name = in.readUTF();
+            body.add(new Field(readType(in), name, null));
+        }
+        // the methods are registered by the element, when the body is pre-processed
+        body.addAll(readMethods(in));
+        return body;
+    }
+
+    private static void writeType(DataOutputStream out, Type type) throws IOException {
+        if (type instanceof NamedScalarType named) {
+            out.writeByte(NAMED_SCALAR_TYPE);
+            writeReferencing(out, named.getReferencing());
+            writeType(out, named.getScalarType());
+            out.writeUTF(named.getName());
+            out.writeBoolean(named.isNamed());
+        }
+
+        else if (type instanceof ScalarType scalar) {
+            if (scalar.getGenerics().isExplicit())
+                throw new IllegalArgumentException("Unsupported generic type " + type);
+
+            out.writeByte(SCALAR_TYPE);
+            writeReferencing(out, scalar.getReferencing());
+
+            List<Token> tokens = scalar.getName().getTypes();
+            out.writeInt(tokens.size());
+            for (Token token : tokens)
+                writeToken(out, token);
+
+            List<Dimension> dimensions = scalar.getArray().getDimensions();
+            out.writeInt(dimensions.size());
+            for (Dimension dimension : dimensions) {
+                writeToken(out, dimension.getSize());
+                out.writeBoolean(dimension.isExplicit());
+            }
+        }
+
+        // compound and lambda types are not supported yet, the package will be parsed again instead
+        else
+            throw new IllegalArgumentException("Unsupported type " + type);
+    }
+
+    private static Type readType(DataInputStream in) throws IOException {
+        int kind = in.readByte();
+        Referencing referencing = readReferencing(in);
+
+        if (kind == NAMED_SCALAR_TYPE) {
+            Type scalarType = readType(in);
+            String name = in.readUTF();
+            return new NamedScalarType(referencing, scalarType, name, in.readBoolean());
+        }
+
+        if (kind != SCALAR_TYPE)
+            throw new IllegalArgumentException("Unknown type kind " + kind);
+
+        List<Token> tokens = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--)
+            tokens.add(readToken(in));
+
+        List<Dimension> dimensions = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            Token size = readToken(in);
+            dimensions.add(new Dimension(size, in.readBoolean()));
+        }
+
+        return new ScalarType(referencing, new QualifiedName(tokens), GenericArgumentList.implicit(), Array.of(dimensions));
+    }
+
+    private static void writeReferencing(DataOutputStream out, Referencing referencing) throws IOException {
+        out.writeUTF(referencing.getType().name());
+        out.writeInt(referencing.getDimensions());
+    }
+
+    private static Referencing readReferencing(DataInputStream in) throws IOException {
+        ReferencingType type = ReferencingType.valueOf(in.readUTF());
+        return new Referencing(type, in.readInt());
+    }
+
+    private static void writeToken(DataOutputStream out, Token token) throws IOException {
+        out.writeUTF(token.getType().name());
+        out.writeUTF(token.getValue());
+        out.writeLong(token.getNumber());
+    }
+
+    private static Token readToken(DataInputStream in) throws IOException {
+        TokenType type = TokenType.valueOf(in.readUTF());
+        String value = in.readUTF();
+        return Token.of(type, value, null, SymbolTable.NO_SYMBOL, in.readLong());
+    }
+}
@@ -0,0 +1,156 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Represents the persisted state of the previous build. The manifest holds the record of each source file,
+ * the build options that the outputs were generated with, and the list of the outputs in the target folder,
+ * so that the following build can decide what to recompile, and which outputs are stale, without walking
+ * the source and the target folders.
+ * <br>
+ * The manifest is loaded with a single read, and it is replaced atomically once the build has been linked.
+ */
+@RequiredArgsConstructor
+@Getter
+public class BuildManifest {
+    /**
+     * The header of the manifest file.
+     */
+    private static final int MAGIC = 0x564F4D46;
+
+    /**
+     * The version of the manifest format. Manifests of a different version are ignored.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * The build options that the outputs were generated with.
+     */
+    private final String profile;
+
+    /**
+     * The records of the source files, by their module names.
+     */
+    private final Map<String, SourceRecord> sources;
+
+    /**
+     * The paths of the outputs relative to the target folder.
+     */
+    private final Set<String> outputs;
+
+    /**
+     * The fingerprint of the inputs of the last successful link, that is empty if the project has not been linked.
+     */
+    @Setter
+    private String linkFingerprint = "";
+
+    /**
+     * Create an empty manifest, that is used when the project has not been built yet.
+     * @return an empty build manifest
+     */
+    public static BuildManifest empty() {
+        return new BuildManifest("", new TreeMap<>(), new TreeSet<>());
+    }
+
+    /**
+     * Indicate, whether the manifest has not been written by a previous build, therefore the outputs
+     * in the target folder are unknown.
+     * @return true if the manifest is empty
+     */
+    public boolean isEmpty() {
+        return profile.isEmpty();
+    }
+
+    /**
+     * Read the build manifest from the specified file.
+     * @param file the manifest file
+     * @return the build manifest, or an empty manifest if the file is missing or malformed
+     */
+    public static BuildManifest read(File file) {
+        if (!file.isFile())
+            return empty();
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                return empty();
+
+            String profile = in.readUTF();
+
+            Map<String, SourceRecord> sources = new TreeMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                String moduleName = in.readUTF();
+                String checksum = in.readUTF();
+                String packageName = in.readUTF();
+                Set<String> dependencies = new TreeSet<>();
+                for (int j = in.readInt(); j > 0; j--)
+                    dependencies.add(in.readUTF());
+                long size = in.readLong();
+                long lastModified = in.readLong();
+                sources.put(moduleName, new SourceRecord(checksum, packageName, dependencies, size, lastModified));
+            }
+
+            Set<String> outputs = new TreeSet<>();
+            for (int i = in.readInt(); i > 0; i--)
+                outputs.add(in.readUTF());
+
+            BuildManifest manifest = new BuildManifest(profile, sources, outputs);
+            manifest.setLinkFingerprint(in.readUTF());
+            return manifest;
+        } catch (IOException e) {
+            return empty();
+        }
+    }
+
+    /**
+     * Write the build manifest to the specified file.
+     * @param file the target manifest file
+     */
+    public void write(File file) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(profile);
+
+            out.writeInt(sources.size());
+            for (Map.Entry<String, SourceRecord> entry : sources.entrySet()) {
+                SourceRecord record = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeUTF(record.getChecksum());
+                out.writeUTF(record.getPackageName());
+                out.writeInt(record.getDependencies().size());
+                for (String dependency : record.getDependencies())
+                    out.writeUTF(dependency);
+                out.writeLong(record.getSize());
+                out.writeLong(record.getLastModified());
+            }
+
+            out.writeInt(outputs.size());
+            for (String output : outputs)
+                out.writeUTF(output);
+
+            out.writeUTF(linkFingerprint);
+        } catch (IOException e) {
+            return;
+        }
+
+        // a build, that is interrupted while writing the manifest, must not leave a truncated manifest behind
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            Files.write(temp.toPath(), buffer.toByteArray());
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            temp.delete();
+        }
+    }
+}
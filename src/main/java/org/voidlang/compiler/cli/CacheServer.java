@@ -0,0 +1,190 @@
+package org.voidlang.compiler.cli;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a minimal server of the remote object cache protocol, that stores the uploaded objects
+ * in an {@link ObjectCache}. The server can be embedded in tests, or it can be started from the command line
+ * to share the objects of a machine with the other machines.
+ * <br>
+ * The server listens on the loopback interface unless an address is specified, and it accepts uploads only
+ * from the clients, that present its token. Every object is served with the content hash, that was recorded
+ * when it was stored, so that the clients can verify the downloaded bytes.
+ */
+public class CacheServer {
+    /**
+     * The pattern of the valid cache keys, that are SHA-256 hashes in hexadecimal format.
+     */
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The cache, that the objects are stored in.
+     */
+    private final ObjectCache cache;
+
+    /**
+     * The underlying HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The workers that handle the requests.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The token, that the clients must present to upload objects, or null if uploads are not accepted.
+     */
+    @Nullable
+    private final String token;
+
+    private CacheServer(ObjectCache cache, HttpServer server, ExecutorService executor, @Nullable String token) {
+        this.cache = cache;
+        this.server = server;
+        this.executor = executor;
+        this.token = token;
+    }
+
+    /**
+     * Start a new cache server on the specified port of the loopback interface.
+     * @param port the port to listen on, or 0 to use any free port
+     * @param cache the cache, that the objects are stored in
+     * @param token the token, that the clients must present to upload objects, or null to serve downloads only
+     * @return the started cache server
+     * @throws IOException if the server could not be bound to the port
+     */
+    public static CacheServer start(int port, ObjectCache cache, @Nullable String token) throws IOException {
+        return start(InetAddress.getLoopbackAddress(), port, cache, token);
+    }
+
+    /**
+     * Start a new cache server on the specified address and port.
+     * @param address the address of the interface to listen on
+     * @param port the port to listen on, or 0 to use any free port
+     * @param cache the cache, that the objects are stored in
+     * @param token the token, that the clients must present to upload objects, or null to serve downloads only
+     * @return the started cache server
+     * @throws IOException if the server could not be bound to the port
+     */
+    public static CacheServer start(
+        InetAddress address, int port, ObjectCache cache, @Nullable String token
+    ) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(4, task -> {
+            Thread thread = new Thread(task, "cache-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        CacheServer cacheServer = new CacheServer(cache, server, executor, token);
+        server.createContext("/", cacheServer::handle);
+        server.setExecutor(executor);
+        server.start();
+        return cacheServer;
+    }
+
+    /**
+     * Get the port that the server is listening on.
+     * @return the port of the server
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server, and release its port.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String key = exchange.getRequestURI().getPath().substring(1);
+            if (!KEY.matcher(key).matches()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> handleGet(exchange, key);
+                case "PUT" -> handlePut(exchange, key);
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void handleGet(HttpExchange exchange, String key) throws IOException {
+        File object = cache.getObject(key);
+        String checksum = cache.getChecksum(key);
+        byte[] content;
+        try {
+            content = object != null && checksum != null ? Files.readAllBytes(object.toPath()) : null;
+        } catch (IOException e) {
+            // the entry has been evicted meanwhile
+            content = null;
+        }
+
+        // the entries without a matching hash are not served, as they might have been corrupted on the disk
+        if (content == null || !checksum.equals(ObjectCache.getChecksum(content))) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set(RemoteCache.CHECKSUM_HEADER, checksum);
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(content);
+        }
+    }
+
+    private void handlePut(HttpExchange exchange, String key) throws IOException {
+        if (!isAuthorized(exchange)) {
+            exchange.sendResponseHeaders(403, -1);
+            return;
+        }
+
+        String checksum = exchange.getRequestHeaders().getFirst(RemoteCache.CHECKSUM_HEADER);
+        if (checksum == null) {
+            exchange.sendResponseHeaders(400, -1);
+            return;
+        }
+
+        boolean stored;
+        try (InputStream stream = exchange.getRequestBody()) {
+            stored = cache.store(key, stream, checksum);
+        }
+        exchange.sendResponseHeaders(stored ? 204 : 500, -1);
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        if (token == null)
+            return false;
+
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer "))
+            return false;
+
+        // compare in constant time, so that the token cannot be guessed from the response times
+        return MessageDigest.isEqual(
+            token.getBytes(StandardCharsets.UTF_8),
+            header.substring("Bearer ".length()).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
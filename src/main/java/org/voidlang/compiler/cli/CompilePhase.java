@@ -0,0 +1,52 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents a stage of the compilation, that is measured by the {@link CompileProfiler}.
+ * Each phase is performed either for a source file, for a package, or once for the whole program.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum CompilePhase {
+    CHECKSUM("checksum", Scope.FILE),
+    READ("read", Scope.FILE),
+    TOKENIZE("tokenize", Scope.FILE),
+    PARSE("parse", Scope.FILE),
+    PRE_PROCESS("preprocess", Scope.FILE),
+    DEFINE("define", Scope.FILE),
+    LOAD_INTERFACE("interface", Scope.PACKAGE),
+    RESOLVE_IMPORTS("imports", Scope.PACKAGE),
+    POST_PROCESS_TYPES("types", Scope.PACKAGE),
+    POST_PROCESS_MEMBERS("members", Scope.PACKAGE),
+    POST_PROCESS_USES("uses", Scope.PACKAGE),
+    GENERATE("generate", Scope.PACKAGE),
+    VERIFY("verify", Scope.PACKAGE),
+    OPTIMIZE("optimize", Scope.PACKAGE),
+    DUMP("dump", Scope.PACKAGE),
+    CACHE("cache", Scope.PACKAGE),
+    EMIT("emit", Scope.PACKAGE),
+    LINK_TIME_OPTIMIZE("lto", Scope.PROGRAM),
+    NATIVE_COMPILE("clang", Scope.PROGRAM),
+    LINK("link", Scope.PROGRAM);
+
+    /**
+     * The short name of the phase, that is displayed in the reports.
+     */
+    private final String label;
+
+    /**
+     * The kind of the subjects, that the phase is performed for.
+     */
+    private final Scope scope;
+
+    /**
+     * Represents the kind of subject, that a compilation phase is performed for.
+     */
+    public enum Scope {
+        FILE,
+        PACKAGE,
+        PROGRAM
+    }
+}
@@ -0,0 +1,417 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Represents a recorder of the time spent in each phase of a build. The phases may be measured
+ * concurrently by the worker threads, the recorded events are aggregated per source file, per package
+ * and for the whole program, once the build has finished.
+ * <br>
+ * A disabled profiler runs the measured tasks without recording anything.
+ */
+public class CompileProfiler {
+    /**
+     * Indicate, whether the phases should be recorded.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * The time that the build has been started at, in nanoseconds.
+     */
+    private final long origin = System.nanoTime();
+
+    /**
+     * The recorded phase events, in the order of their completion.
+     */
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tokens produced for each source file.
+     */
+    private final Map<String, Integer> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * The number of nodes created by the parser.
+     */
+    private final LongAdder nodes = new LongAdder();
+
+    public CompileProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Measure the time of a phase, that produces a result.
+     * @param phase the phase being measured
+     * @param subject the source file, package or program that the phase is performed for
+     * @param task the task of the phase
+     * @return the result of the task
+     * @param <T> the type of the result
+     */
+    public <T> T measure(CompilePhase phase, String subject, Supplier<T> task) {
+        if (!enabled)
+            return task.get();
+
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(phase, subject, start, System.nanoTime());
+        }
+    }
+
+    /**
+     * Measure the time of a phase.
+     * @param phase the phase being measured
+     * @param subject the source file, package or program that the phase is performed for
+     * @param task the task of the phase
+     */
+    public void measure(CompilePhase phase, String subject, Runnable task) {
+        measure(phase, subject, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Register the number of tokens, that a source file has been tokenized to.
+     * @param file the module name of the source file
+     * @param count the number of tokens
+     */
+    public void countTokens(String file, int count) {
+        if (enabled)
+            tokens.put(file, count);
+    }
+
+    /**
+     * Register the number of nodes, that have been created by the parser.
+     * @param count the number of nodes
+     */
+    public void countNodes(long count) {
+        if (enabled)
+            nodes.add(count);
+    }
+
+    /**
+     * Get the recorded events in the order of their start time.
+     * @return the recorded phase events
+     */
+    public List<Event> getEvents() {
+        List<Event> list = new ArrayList<>(events);
+        list.sort(java.util.Comparator.comparingLong(Event::getStart));
+        return list;
+    }
+
+    private void record(CompilePhase phase, String subject, long start, long end) {
+        Thread thread = Thread.currentThread();
+        events.add(new Event(phase, subject, thread.getName(), thread.getId(), start - origin, end - start));
+    }
+
+    /**
+     * Display the recorded phases in the console as tables of milliseconds.
+     */
+    public void printReport() {
+        long wall = System.nanoTime() - origin;
+
+        System.out.println(
+            ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+            ConsoleFormat.DARK_GRAY + "] " +
+            ConsoleFormat.CYAN + "time report" + ConsoleFormat.LIGHT_GRAY + " > " +
+            ConsoleFormat.WHITE + formatMillis(wall) + " ms" +
+            ConsoleFormat.DEFAULT
+        );
+
+        printTable("file", CompilePhase.Scope.FILE, true);
+        printTable("package", CompilePhase.Scope.PACKAGE, false);
+        printTable("program", CompilePhase.Scope.PROGRAM, false);
+
+        System.out.println(
+            ConsoleFormat.LIGHT_GRAY + "throughput: " +
+            ConsoleFormat.WHITE + getTokenCount() + " tokens" +
+            ConsoleFormat.LIGHT_GRAY + " (" + formatRate(getTokenCount(), CompilePhase.TOKENIZE) +
+            " tokens/sec), " +
+            ConsoleFormat.WHITE + nodes.sum() + " nodes" +
+            ConsoleFormat.LIGHT_GRAY + " (" + formatRate(nodes.sum(), CompilePhase.PARSE) + " nodes/sec)" +
+            ConsoleFormat.DEFAULT
+        );
+        System.out.println();
+    }
+
+    private void printTable(String title, CompilePhase.Scope scope, boolean showTokens) {
+        Map<String, Map<CompilePhase, Long>> rows = aggregate(scope);
+        if (rows.isEmpty())
+            return;
+
+        List<CompilePhase> phases = getPhases(rows);
+        int width = title.length();
+        for (String subject : rows.keySet())
+            width = Math.max(width, subject.length());
+
+        StringBuilder header = new StringBuilder(pad(title, width));
+        for (CompilePhase phase : phases)
+            header.append(String.format(" %10s", phase.getLabel()));
+        header.append(String.format(" %10s", "total"));
+        if (showTokens)
+            header.append(String.format(" %10s", "tokens"));
+
+        System.out.println();
+        System.out.println(ConsoleFormat.LIGHT_GRAY + "" + header + ConsoleFormat.DEFAULT);
+
+        Map<CompilePhase, Long> totals = new EnumMap<>(CompilePhase.class);
+        for (Map.Entry<String, Map<CompilePhase, Long>> row : rows.entrySet()) {
+            StringBuilder line = new StringBuilder(pad(row.getKey(), width));
+            long sum = 0;
+            for (CompilePhase phase : phases) {
+                long time = row.getValue().getOrDefault(phase, 0L);
+                totals.merge(phase, time, Long::sum);
+                sum += time;
+                line.append(String.format(" %10s", formatMillis(time)));
+            }
+            line.append(String.format(" %10s", formatMillis(sum)));
+            if (showTokens)
+                line.append(String.format(" %10s", tokens.getOrDefault(row.getKey(), 0)));
+            System.out.println(ConsoleFormat.WHITE + "" + line + ConsoleFormat.DEFAULT);
+        }
+
+        // the sum of a single row does not need to be repeated
+        if (rows.size() < 2)
+            return;
+
+        StringBuilder footer = new StringBuilder(pad("total", width));
+        long sum = 0;
+        for (CompilePhase phase : phases) {
+            long time = totals.get(phase);
+            sum += time;
+            footer.append(String.format(" %10s", formatMillis(time)));
+        }
+        footer.append(String.format(" %10s", formatMillis(sum)));
+        if (showTokens)
+            footer.append(String.format(" %10s", getTokenCount()));
+        System.out.println(ConsoleFormat.LIGHT_GRAY + "" + footer + ConsoleFormat.DEFAULT);
+    }
+
+    /**
+     * Write the recorded phases to the specified file in JSON format.
+     * @param file the target report file
+     */
+    public void writeReport(File file) {
+        long wall = System.nanoTime() - origin;
+
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"wallMillis\": ").append(formatMillis(wall)).append(",\n");
+        json.append("  \"tokens\": ").append(getTokenCount()).append(",\n");
+        json.append("  \"tokensPerSecond\": ")
+            .append(formatRate(getTokenCount(), CompilePhase.TOKENIZE)).append(",\n");
+        json.append("  \"nodes\": ").append(nodes.sum()).append(",\n");
+        json.append("  \"nodesPerSecond\": ").append(formatRate(nodes.sum(), CompilePhase.PARSE)).append(",\n");
+
+        json.append("  \"phases\": {");
+        Map<CompilePhase, Long> phases = new EnumMap<>(CompilePhase.class);
+        for (Event event : events)
+            phases.merge(event.phase, event.duration, Long::sum);
+        appendTimes(json, phases);
+        json.append("},\n");
+
+        appendScope(json, "files", CompilePhase.Scope.FILE);
+        json.append(",\n");
+        appendScope(json, "packages", CompilePhase.Scope.PACKAGE);
+        json.append(",\n");
+        appendScope(json, "program", CompilePhase.Scope.PROGRAM);
+        json.append("\n}\n");
+
+        try {
+            Files.writeString(file.toPath(), json);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Write the recorded phases to the specified file in the trace event format of Chrome and Perfetto,
+     * so that the activity of each worker thread can be displayed on a timeline.
+     * @param file the target trace file
+     */
+    public void writeTrace(File file) {
+        StringBuilder json = new StringBuilder("{\"displayTimeUnit\": \"ms\", \"traceEvents\": [\n");
+
+        // name the timeline rows after the threads, that have executed the phases
+        Map<Long, String> threads = new TreeMap<>();
+        for (Event event : events)
+            threads.putIfAbsent(event.threadId, event.threadName);
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            json.append("  {\"name\": \"thread_name\", \"ph\": \"M\", \"pid\": 1, \"tid\": ")
+                .append(thread.getKey()).append(", \"args\": {\"name\": ").append(quote(thread.getValue()))
+                .append("}},\n");
+        }
+
+        // the timestamps of complete events are expected in microseconds
+        List<Event> list = getEvents();
+        for (int i = 0; i < list.size(); i++) {
+            Event event = list.get(i);
+            json.append("  {\"name\": ").append(quote(event.phase.getLabel() + " " + event.subject))
+                .append(", \"cat\": ").append(quote(event.phase.getScope().name().toLowerCase(Locale.ROOT)))
+                .append(", \"ph\": \"X\", \"pid\": 1, \"tid\": ").append(event.threadId)
+                .append(", \"ts\": ").append(formatMicros(event.start))
+                .append(", \"dur\": ").append(formatMicros(event.duration))
+                .append(", \"args\": {\"phase\": ").append(quote(event.phase.getLabel()))
+                .append(", \"subject\": ").append(quote(event.subject)).append("}}")
+                .append(i + 1 < list.size() ? ",\n" : "\n");
+        }
+        json.append("]}\n");
+
+        try {
+            Files.writeString(file.toPath(), json);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void appendScope(StringBuilder json, String name, CompilePhase.Scope scope) {
+        json.append("  ").append(quote(name)).append(": {");
+        Map<String, Map<CompilePhase, Long>> rows = aggregate(scope);
+        boolean first = true;
+        for (Map.Entry<String, Map<CompilePhase, Long>> row : rows.entrySet()) {
+            json.append(first ? "\n" : ",\n").append("    ").append(quote(row.getKey())).append(": {");
+            appendTimes(json, row.getValue());
+            if (scope == CompilePhase.Scope.FILE)
+                json.append(", \"tokens\": ").append(tokens.getOrDefault(row.getKey(), 0));
+            json.append("}");
+            first = false;
+        }
+        json.append(rows.isEmpty() ? "}" : "\n  }");
+    }
+
+    private void appendTimes(StringBuilder json, Map<CompilePhase, Long> times) {
+        boolean first = true;
+        for (Map.Entry<CompilePhase, Long> entry : times.entrySet()) {
+            if (!first)
+                json.append(", ");
+            json.append(quote(entry.getKey().getLabel())).append(": ").append(formatMillis(entry.getValue()));
+            first = false;
+        }
+    }
+
+    /**
+     * Sum the durations of the events of the specified scope, grouped by their subjects.
+     * @param scope the scope of the phases
+     * @return the durations of the phases, by subject names in alphabetical order
+     */
+    private Map<String, Map<CompilePhase, Long>> aggregate(CompilePhase.Scope scope) {
+        Map<String, Map<CompilePhase, Long>> rows = new TreeMap<>();
+        for (Event event : events) {
+            if (event.phase.getScope() != scope)
+                continue;
+            rows.computeIfAbsent(event.subject, k -> new EnumMap<>(CompilePhase.class))
+                .merge(event.phase, event.duration, Long::sum);
+        }
+        return rows;
+    }
+
+    private List<CompilePhase> getPhases(Map<String, Map<CompilePhase, Long>> rows) {
+        Set<CompilePhase> phases = EnumSet.noneOf(CompilePhase.class);
+        rows.values().forEach(row -> phases.addAll(row.keySet()));
+        return new ArrayList<>(phases);
+    }
+
+    private long getTokenCount() {
+        long sum = 0;
+        for (int count : tokens.values())
+            sum += count;
+        return sum;
+    }
+
+    /**
+     * Calculate the number of items processed per second by the specified phases.
+     * @param count the number of processed items
+     * @param phases the phases that processed the items
+     * @return the formatted throughput
+     */
+    private String formatRate(long count, CompilePhase... phases) {
+        Set<CompilePhase> filter = EnumSet.copyOf(Arrays.asList(phases));
+        long time = 0;
+        for (Event event : events) {
+            if (filter.contains(event.phase))
+                time += event.duration;
+        }
+        if (time == 0)
+            return "0";
+        return String.valueOf(Math.round(count * 1_000_000_000.0 / time));
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    private static String formatMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000.0);
+    }
+
+    private static String pad(String value, int width) {
+        return String.format("%-" + width + "s", value);
+    }
+
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        builder.append(String.format("\\u%04x", (int) c));
+                    else
+                        builder.append(c);
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Represents a measured execution of a compilation phase.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static class Event {
+        /**
+         * The phase that has been executed.
+         */
+        private final CompilePhase phase;
+
+        /**
+         * The source file, package or program that the phase has been performed for.
+         */
+        private final String subject;
+
+        /**
+         * The name of the thread that executed the phase.
+         */
+        private final String threadName;
+
+        /**
+         * The identifier of the thread that executed the phase.
+         */
+        private final long threadId;
+
+        /**
+         * The start of the phase, in nanoseconds since the start of the build.
+         */
+        private final long start;
+
+        /**
+         * The duration of the phase, in nanoseconds.
+         */
+        private final long duration;
+    }
+}
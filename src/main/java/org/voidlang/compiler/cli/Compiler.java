@@ -3,53 +3,139 @@ package org.voidlang.compiler.cli;
 import com.moandjiezana.toml.Toml;
 import dev.inventex.octa.console.ConsoleFormat;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.llvm.LLVM.LLVMMemoryBufferRef;
+import org.bytedeco.llvm.LLVM.LLVMModuleRef;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.voidlang.compiler.builder.Application;
 import org.voidlang.compiler.builder.Package;
+import org.voidlang.compiler.builder.PackageInterface;
 import org.voidlang.compiler.builder.ProjectSettings;
+import org.voidlang.compiler.config.BuildInfo;
 import org.voidlang.compiler.node.Generator;
 import org.voidlang.compiler.node.Node;
-import org.voidlang.compiler.node.NodeType;
 import org.voidlang.compiler.node.Parser;
+import org.voidlang.compiler.node.SyntaxTree;
 import org.voidlang.compiler.node.element.Class;
 import org.voidlang.compiler.node.element.Method;
 import org.voidlang.compiler.node.element.Struct;
 import org.voidlang.compiler.node.info.PackageImport;
 import org.voidlang.compiler.node.info.PackageUsing;
-import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.TokenStream;
 import org.voidlang.compiler.token.TokenType;
 import org.voidlang.compiler.token.Tokenizer;
-import org.voidlang.compiler.token.Transformer;
+import org.voidlang.compiler.util.PanicException;
 import org.voidlang.compiler.util.Prettier;
 import org.voidlang.compiler.util.Validate;
 import org.voidlang.llvm.element.*;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.bytedeco.llvm.global.LLVM.*;
 
 @RequiredArgsConstructor
 public class Compiler {
+    private static final long WATCH_DELAY = 100;
+
     private final String inputDir;
 
     private Application application;
 
     private ProjectSettings settings;
 
+    private BuildInfo buildInfo;
+
     private File targetDir, sourceDir;
 
-    private int cachedFiles, parsedFiles, compiledFiles;
+    private int cachedFiles, parsedFiles;
+
+    private final AtomicInteger compiledFiles = new AtomicInteger();
+
+    @Setter
+    private int jobs = 1;
+
+    private ForkJoinPool workers;
+
+    @Setter
+    private boolean emitBitcode, useClang, runInMemory, lazy, noCache, noRun;
+
+    @Setter
+    private OptimizationLevel optimizationLevel;
+
+    private ObjectEmitter emitter;
+
+    private ProcessScheduler scheduler;
+
+    private BuildManifest manifest;
+
+    private ObjectCache objectCache;
+
+    @Setter
+    private String remoteCacheUrl;
+
+    @Setter
+    private String remoteCacheToken;
+
+    private RemoteCache remoteCache;
+
+    private final Map<File, String> pendingObjects = new ConcurrentHashMap<>();
+
+    @Setter
+    private boolean timeReport, trace;
+
+    private CompileProfiler profiler;
+
+    private final Map<String, SourceUnit> tokenCache = new ConcurrentHashMap<>();
+
+    private final SymbolTable symbolTable = new SymbolTable();
+
+    private final List<Generator> generators = Collections.synchronizedList(new ArrayList<>());
 
     public void compile() {
+        init();
+        try {
+            compileSources();
+        } finally {
+            shutdown();
+        }
+    }
+
+    @SneakyThrows
+    public void watch() {
+        init();
+        // a compile error aborts the current build only, the user is expected to fix it while watching
+        Validate.setRecoverable(true);
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            watchDir(service, sourceDir.toPath());
+            // keep the JVM, LLVM and the tokens and nodes of the unchanged files warm between the builds
+            while (true) {
+                rebuild();
+                awaitChanges(service);
+            }
+        } finally {
+            shutdown();
+        }
+    }
+
+    private void init() {
         File projectDir = new File(inputDir);
         if (!projectDir.exists() || !projectDir.isDirectory())
             Validate.panic("Project " + inputDir + " does not exist");
@@ -70,88 +156,198 @@ public class Compiler {
             .getTable("project")
             .to(ProjectSettings.class);
 
-        Prettier.setEnabled(false);
+        Toml buildTable = toml.getTable("build");
+        buildInfo = buildTable != null ? buildTable.to(BuildInfo.class) : new BuildInfo();
 
-        compileSources();
-    }
+        // the optimization level of the command line takes precedence over the build configuration
+        if (optimizationLevel == null && buildInfo.optimization != null) {
+            optimizationLevel = OptimizationLevel.parse(buildInfo.optimization);
+            if (optimizationLevel == null)
+                Validate.panic("Invalid optimization level in void.toml: " + buildInfo.optimization);
+        }
+        if (optimizationLevel == null)
+            optimizationLevel = OptimizationLevel.DEFAULT;
 
-    @SneakyThrows
-    private void compileSources() {
-        application = new Application();
+        // the partially generated modules can only be executed, they cannot be reused by the following builds
+        if (noRun && runInMemory)
+            Validate.panic("The --no-run option cannot be used when running the project");
+        if (lazy && !runInMemory)
+            Validate.panic("Lazy generation is only supported when running the project");
+
+        Prettier.setEnabled(false);
+
+        if (jobs < 1)
+            jobs = Runtime.getRuntime().availableProcessors();
+        if (jobs > 1)
+            workers = new ForkJoinPool(jobs);
+        scheduler = new ProcessScheduler(jobs);
 
         initLLVM();
 
-        walkDir(sourceDir).forEach(this::readSource);
-        if (cachedFiles > 0 || parsedFiles > 0)
-            System.out.println();
+        if (!useClang)
+            emitter = ObjectEmitter.createNative(optimizationLevel);
 
-        resolveImports();
-        postProcessTypes();
-        postProcessMembers();
-        postProcessUses();
-        generate();
+        if (!noCache)
+            objectCache = ObjectCache.createDefault();
+        if (remoteCacheUrl != null)
+            remoteCache = new RemoteCache(remoteCacheUrl, remoteCacheToken);
+    }
 
-        compilePackages();
-        if (compiledFiles > 0)
-            System.out.println();
+    private void shutdown() {
+        if (workers != null)
+            workers.shutdown();
+        scheduler.shutdown();
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            compileSources();
+        } catch (Exception e) {
+            // keep watching the sources, the user is expected to fix the error
+            System.err.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.RED + ConsoleFormat.BOLD + "failed" +
+                ConsoleFormat.LIGHT_GRAY + " > " +
+                ConsoleFormat.WHITE + (e instanceof PanicException ? e.getMessage() : e) +
+                ConsoleFormat.DEFAULT
+            );
+        } finally {
+            disposeContexts();
+            org.voidlang.compiler.runtime.Runtime.reset();
+        }
+
+        System.out.println(
+            ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+            ConsoleFormat.DARK_GRAY + "] " +
+            ConsoleFormat.CYAN + "watching" + ConsoleFormat.LIGHT_GRAY + " > " +
+            ConsoleFormat.WHITE + sourceDir.getPath() +
+            ConsoleFormat.LIGHT_GRAY + " (built in " + (System.currentTimeMillis() - start) + " ms)" +
+            ConsoleFormat.DEFAULT
+        );
+    }
 
-        removeOldFiles();
+    @SneakyThrows
+    private void awaitChanges(WatchService service) {
+        boolean changed = false;
+        while (!changed) {
+            WatchKey key = service.take();
+            do {
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        changed = true;
+                        continue;
+                    }
+
+                    Path path = dir.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                        watchDir(service, path);
+                        changed = true;
+                    } else if (path.toString().endsWith(".vs"))
+                        changed = true;
+                }
+                key.reset();
 
-        linkModules();
+                // editors usually save a file in multiple steps, therefore wait for the changes to settle
+                key = service.poll(WATCH_DELAY, TimeUnit.MILLISECONDS);
+            } while (key != null);
+        }
+        System.out.println();
+    }
+
+    @SneakyThrows
+    private void watchDir(WatchService service, Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.filter(Files::isDirectory).toList()) {
+                path.register(
+                    service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY
+                );
+            }
+        }
+    }
 
-        runExecutable();
+    private void disposeContexts() {
+        synchronized (generators) {
+            for (Generator generator : generators) {
+                LLVMDisposeBuilder(generator.getBuilder().getHandle());
+                // disposing the context also disposes the modules that it owns
+                LLVMContextDispose(generator.getContext().getHandle());
+            }
+            generators.clear();
+        }
     }
 
-    private void removeOldFiles() {
-        List<File>
-            bitcodeFiles = new ArrayList<>(),
-            dumpFiles = new ArrayList<>(),
-            objectFiles = new ArrayList<>(),
-            checksumFiles = new ArrayList<>();
+    @SneakyThrows
+    private void compileSources() {
+        application = new Application();
+        Method.clearNames();
+        profiler = new CompileProfiler(timeReport || trace);
+        manifest = BuildManifest.read(getManifestFile());
+
+        cachedFiles = 0;
+        parsedFiles = 0;
+        compiledFiles.set(0);
 
-        File
-            bitcodeDir = new File(targetDir, "bitcode"),
-            objDir = new File(targetDir, "object"),
-            debugDir = new File(targetDir, "debug"),
-            dataDir = new File(targetDir, "data");
+        List<SourceUnit> units = runAll(walkDir(sourceDir), this::loadSource);
+        tokenCache.keySet().retainAll(units.stream().map(SourceUnit::getModuleName).toList());
 
-        List<File>
-            sourceFiles = walkDir(sourceDir),
-            targetFiles = walkDir(targetDir);
+        // the changed source files must be tokenized, to find out which packages they are declared in
+        forAll(units.stream().filter(SourceUnit::isChanged).toList(), this::tokenizeSource);
 
-        for (File sourceFile : sourceFiles) {
-            String fileName = sourceFile
-                .getAbsolutePath()
-                .substring(sourceDir.getAbsolutePath().length() + 1)
-                .replace('\\', '/');
+        // the declarations of the unchanged packages are loaded from their interfaces,
+        // therefore only the sources of the outdated packages are parsed
+        Map<String, PackageInterface> interfaces = new HashMap<>();
+        Set<String> outdatedPackages = invalidatePackages(units, interfaces);
+        readSources(units, outdatedPackages, interfaces);
 
-            fileName = fileName
-                .substring(0, fileName.length() - 3)
-                .replace('/', '.')
-                .replace('\\', '.');
+        for (SourceUnit unit : units)
+            reportSource(unit, unit.getTokens() != null);
+        if (cachedFiles > 0 || parsedFiles > 0)
+            System.out.println();
 
-            File
-                bitcodeFile = new File(bitcodeDir, fileName + ".bc"),
-                dumpFile = new File(debugDir, fileName + ".ll"),
-                objectFile = new File(objDir, fileName + ".obj"),
-                checksumFile = new File(dataDir, fileName + ".checksum");
+        resolveImports();
+        compilePackages(outdatedPackages);
+        if (buildInfo.lto && !runInMemory)
+            profiler.measure(CompilePhase.LINK_TIME_OPTIMIZE, getProgramName(), () -> linkProgram(outdatedPackages));
+        profiler.measure(CompilePhase.NATIVE_COMPILE, settings.name, this::awaitNativeCompilers);
+        if (compiledFiles.get() > 0)
+            System.out.println();
 
-            bitcodeFiles.add(bitcodeFile);
-            dumpFiles.add(dumpFile);
-            objectFiles.add(objectFile);
-            checksumFiles.add(checksumFile);
+        saveInterfaces(outdatedPackages);
+        updateManifest(units);
+
+        // the program can be executed in-process, without writing the object files and linking the executable
+        if (runInMemory) {
+            LinkTimeOptimizer linker = linkInMemory(outdatedPackages);
+            writeManifest();
+            try {
+                reportTimes();
+                runProgram(linker);
+            } finally {
+                linker.dispose();
+            }
+            return;
         }
 
-        for (File targetFile : targetFiles) {
-            String name = targetFile.getName();
-            if (
-                (name.endsWith(".bc") && !bitcodeFiles.contains(targetFile)) ||
-                (name.endsWith(".ll") && !dumpFiles.contains(targetFile)) ||
-                (name.endsWith(".obj") && !objectFiles.contains(targetFile)) ||
-                (name.endsWith(".checksum") && !checksumFiles.contains(targetFile))
-            )
-                targetFile.delete();
+        profiler.measure(CompilePhase.LINK, settings.name, this::linkModules);
+        reportTimes();
+
+        if (!noRun)
+            runExecutable();
+    }
+
+    private void reportTimes() {
+        if (timeReport) {
+            profiler.printReport();
+            profiler.writeReport(new File(targetDir, "time-report.json"));
         }
+        if (trace)
+            profiler.writeTrace(new File(targetDir, "trace.json"));
     }
 
     @SneakyThrows
@@ -174,57 +370,466 @@ public class Compiler {
 
 
     private void resolveImports() {
+        // the imports are resolved for all the packages up front, as resolving a using reads the methods
+        // of another package, that might be merging the methods of its own imports at the same time
         application
             .getPackages()
             .values()
-            .forEach(Package::resolveImports);
+            .forEach(pkg -> profiler.measure(CompilePhase.RESOLVE_IMPORTS, pkg.getName(), pkg::resolveImports));
     }
 
-    private void postProcessTypes() {
-        application
+    private void compilePackages(Set<String> outdatedPackages) {
+        // the passes of a package are run as soon as the packages it imports are processed, and the package is
+        // generated, verified and emitted once the packages that import it are processed as well, because their
+        // passes create the types of the imported classes and structs in the LLVM context of this package
+        PackageScheduler packageScheduler = new PackageScheduler(application.getPackages().values());
+        Consumer<Package> compile = pkg -> {
+            if (outdatedPackages.contains(pkg.getName()))
+                compilePackage(pkg);
+        };
+
+        // the methods are generated on demand across the packages, therefore the packages are compiled
+        // only after all of them have been processed
+        packageScheduler.run(workers, this::postProcessPackages, lazy ? null : compile);
+        if (!lazy)
+            return;
+
+        List<Package> packages = application
             .getPackages()
             .values()
-            .forEach(pkg -> pkg.postProcessType(pkg.getGenerator()));
+            .stream()
+            .filter(pkg -> outdatedPackages.contains(pkg.getName()))
+            .toList();
+
+        generateReachable(packages);
+        forAll(packages, this::compilePackage);
     }
 
-    private void postProcessMembers() {
-        application
-            .getPackages()
-            .values()
-            .forEach(pkg -> pkg.postProcessMember(pkg.getGenerator()));
+    private void postProcessPackages(List<Package> packages) {
+        // the packages of a dependency cycle are processed together, one phase at a time
+        for (Package pkg : packages)
+            profiler.measure(CompilePhase.POST_PROCESS_TYPES, pkg.getName(),
+                () -> pkg.postProcessType(pkg.getGenerator()));
+        for (Package pkg : packages)
+            profiler.measure(CompilePhase.POST_PROCESS_MEMBERS, pkg.getName(),
+                () -> pkg.postProcessMember(pkg.getGenerator()));
+        for (Package pkg : packages)
+            profiler.measure(CompilePhase.POST_PROCESS_USES, pkg.getName(),
+                () -> pkg.postProcessUse(pkg.getGenerator()));
     }
 
-    private void postProcessUses() {
-        application
-            .getPackages()
-            .values()
-            .forEach(pkg -> pkg.postProcessUse(pkg.getGenerator()));
+    private void generateReachable(List<Package> packages) {
+        LazyGenerator generator = new LazyGenerator(packages);
+        int generated = profiler.measure(CompilePhase.GENERATE, settings.name, generator::generate);
+
+        System.out.println(
+            ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+            ConsoleFormat.DARK_GRAY + "] " +
+            ConsoleFormat.RED + ConsoleFormat.BOLD + "lazy" +
+            ConsoleFormat.LIGHT_GRAY + " > " +
+            ConsoleFormat.WHITE + generated + " of " + generator.getTotal() + " methods" +
+            ConsoleFormat.DEFAULT
+        );
     }
 
-    private void generate() {
-        application
-            .getPackages()
-            .values()
-            .forEach(pkg -> pkg.generate(pkg.getGenerator()));
+    private Set<String> invalidatePackages(List<SourceUnit> units, Map<String, PackageInterface> interfaces) {
+        Set<String> outdated = new HashSet<>();
+        Map<String, Set<String>> dependents = new HashMap<>();
+        Map<String, String> modules = new LinkedHashMap<>();
+        Set<String> moduleNames = new HashSet<>();
+
+        for (SourceUnit unit : units) {
+            String packageName = unit.getPackageName();
+            // the module of the package is named after the first source file that declares it
+            modules.putIfAbsent(packageName, unit.getModuleName());
+            moduleNames.add(unit.getModuleName());
+
+            // the package is outdated, if the source file is new, or it has been changed since the last build
+            SourceRecord record = unit.getRecord();
+            if (unit.isChanged()) {
+                outdated.add(packageName);
+                // the source file might have been moved from another package
+                if (record != null)
+                    outdated.add(record.getPackageName());
+                continue;
+            }
+
+            for (String dependency : record.getDependencies())
+                dependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(packageName);
+        }
+
+        // the package of a deleted source file must be compiled again without the declarations of the file
+        for (Map.Entry<String, SourceRecord> entry : manifest.getSources().entrySet()) {
+            if (!moduleNames.contains(entry.getKey()))
+                outdated.add(entry.getValue().getPackageName());
+        }
+
+        // the outputs of all the packages are outdated, if they were generated with different build options
+        if (!getBuildProfile().equals(manifest.getProfile()))
+            outdated.addAll(modules.keySet());
+
+        for (Map.Entry<String, String> entry : modules.entrySet()) {
+            String packageName = entry.getKey();
+            if (outdated.contains(packageName))
+                continue;
+
+            // the output of the package might have been deleted manually, in link-time optimization mode,
+            // and when running in-memory, the program is linked from the bitcode of the packages,
+            // instead of their object files
+            File outputFile = buildInfo.lto || runInMemory
+                ? getBitcodeFile(entry.getValue())
+                : getObjectFile(entry.getValue());
+            if (!outputFile.isFile()) {
+                outdated.add(packageName);
+                continue;
+            }
+
+            // the package must be parsed again, if its interface could not be written by the previous build
+            PackageInterface packageInterface = PackageInterface.read(getInterfaceFile(packageName));
+            if (packageInterface == null)
+                outdated.add(packageName);
+            else
+                interfaces.put(packageName, packageInterface);
+        }
+
+        // the unique method names are handed out in walk order, therefore the recompiled packages could take
+        // the names of a skipped package, that does not reserve them, so every package must be compiled again
+        if (!interfaces.values().stream().allMatch(PackageInterface::reservesNames)) {
+            interfaces.clear();
+            outdated.addAll(modules.keySet());
+            return outdated;
+        }
+
+        // invalidate the packages, that import an outdated package, either directly or transitively
+        Deque<String> queue = new ArrayDeque<>(outdated);
+        while (!queue.isEmpty()) {
+            for (String dependent : dependents.getOrDefault(queue.poll(), Set.of())) {
+                if (outdated.add(dependent))
+                    queue.add(dependent);
+            }
+        }
+
+        interfaces.keySet().removeAll(outdated);
+        return outdated;
     }
 
-    private void compilePackages() {
-        application
+    private Set<String> getDependencies(SourceUnit unit) {
+        Set<String> dependencies = new TreeSet<>();
+        for (Node node : unit.getNodes()) {
+            if (node instanceof PackageImport packageImport)
+                dependencies.add(packageImport.getNode().getName());
+            else if (node instanceof PackageUsing packageUsing)
+                dependencies.add(packageUsing.getNode().getName());
+        }
+        dependencies.remove(unit.getPackageName());
+        return dependencies;
+    }
+
+    private void updateManifest(List<SourceUnit> units) {
+        Map<String, SourceRecord> sources = new TreeMap<>();
+        for (SourceUnit unit : units) {
+            // the dependencies of the files, that were not parsed, have not changed since the previous build
+            Set<String> dependencies = unit.getNodes() != null
+                ? getDependencies(unit)
+                : unit.getRecord().getDependencies();
+            sources.put(unit.getModuleName(), new SourceRecord(
+                unit.getChecksum(), unit.getPackageName(), dependencies, unit.getSize(), unit.getLastModified()
+            ));
+        }
+
+        // delete the outputs of the previous build, that are not produced anymore, such as the outputs
+        // of a removed package, or the object files of the packages after enabling link-time optimization
+        Set<String> outputs = getOutputs();
+        if (manifest.isEmpty())
+            deleteUnknownOutputs(outputs);
+        else {
+            for (String output : manifest.getOutputs()) {
+                if (!outputs.contains(output))
+                    new File(targetDir, output).delete();
+            }
+        }
+
+        // the fingerprint of the previous link is kept, so that the executable is not linked again,
+        // if none of the object files has changed
+        String linkFingerprint = manifest.getLinkFingerprint();
+
+        // the manifest is written once the program has been linked, so that a failed build is not
+        // mistaken for an up-to-date one
+        manifest = new BuildManifest(getBuildProfile(), sources, outputs);
+        manifest.setLinkFingerprint(linkFingerprint);
+    }
+
+    private void writeManifest() {
+        new File(targetDir, "data").mkdir();
+        manifest.write(getManifestFile());
+    }
+
+    private void deleteUnknownOutputs(Set<String> outputs) {
+        // without a manifest, the outputs of the previous build are unknown, therefore every file, that is not
+        // produced by this build, is deleted, so that it is not linked into the executable; this also removes
+        // the legacy checksum and build profile files
+        for (String dirName : List.of("object", "bitcode", "debug", "data")) {
+            File[] files = new File(targetDir, dirName).listFiles(File::isFile);
+            if (files == null)
+                continue;
+            for (File file : files) {
+                if (!outputs.contains(dirName + "/" + file.getName()))
+                    file.delete();
+            }
+        }
+    }
+
+    private Set<String> getOutputs() {
+        List<String> paths = new ArrayList<>();
+        for (Package pkg : application.getPackages().values()) {
+            String name = getOutputName(pkg.getGenerator().getModule().getName());
+            // the object files of the packages are not linked in link-time optimization mode
+            if (!buildInfo.lto)
+                paths.add("object/" + name + ".obj");
+            paths.add("bitcode/" + name + ".bc");
+            paths.add("debug/" + name + ".ll");
+            paths.add("data/" + pkg.getName() + ".interface");
+        }
+
+        // the whole program is compiled to a single object file in link-time optimization mode
+        if (buildInfo.lto) {
+            String programName = getProgramName();
+            paths.add("object/" + programName + ".obj");
+            paths.add("bitcode/" + programName + ".bc");
+            paths.add("debug/" + programName + ".ll");
+        }
+
+        Set<String> outputs = new TreeSet<>();
+        for (String path : paths) {
+            if (new File(targetDir, path).isFile())
+                outputs.add(path);
+        }
+        return outputs;
+    }
+
+    private void saveInterfaces(Set<String> outdatedPackages) {
+        for (String packageName : outdatedPackages) {
+            Package pkg = application.getPackage(packageName);
+            if (pkg != null)
+                PackageInterface.write(pkg, getInterfaceFile(packageName));
+        }
+    }
+
+    private String getBuildProfile() {
+        return "optimization=" + optimizationLevel.name() + "\n" +
+            "lto=" + buildInfo.lto + "\n";
+    }
+
+    private File getManifestFile() {
+        return new File(new File(targetDir, "data"), "build.manifest");
+    }
+
+    private void reportSource(SourceUnit unit, boolean outdated) {
+        if (outdated) {
+            System.out.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.YELLOW +  "source" + ConsoleFormat.LIGHT_GRAY + " > " +
+                ConsoleFormat.WHITE + unit.getModuleName()
+            );
+            parsedFiles++;
+        } else {
+            System.out.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.CYAN + "cached" + ConsoleFormat.LIGHT_GRAY + " > " +
+                ConsoleFormat.WHITE + unit.getModuleName()
+            );
+            cachedFiles++;
+        }
+    }
+
+    private File getObjectFile(String moduleName) {
+        return new File(new File(targetDir, "object"), getOutputName(moduleName) + ".obj");
+    }
+
+    private File getBitcodeFile(String moduleName) {
+        return new File(new File(targetDir, "bitcode"), getOutputName(moduleName) + ".bc");
+    }
+
+    private String getProgramName() {
+        return settings.name + ".lto";
+    }
+
+    private File getInterfaceFile(String packageName) {
+        return new File(new File(targetDir, "data"), packageName + ".interface");
+    }
+
+    private String getOutputName(String moduleName) {
+        return moduleName
+            .substring(0, moduleName.length() - ".vs".length())
+            .replace('/', '.')
+            .replace('\\', '.');
+    }
+
+    private void compilePackage(Package pkg) {
+        Generator generator = pkg.getGenerator();
+        if (!lazy)
+            profiler.measure(CompilePhase.GENERATE, pkg.getName(), () -> pkg.generate(generator));
+
+        IRModule module = generator.getModule();
+
+        BytePointer error = new BytePointer((Pointer) null);
+        boolean valid = profiler.measure(CompilePhase.VERIFY, pkg.getName(),
+            () -> module.verify(IRModule.VerifierFailureAction.ABORT_PROCESS, error));
+        if (!valid) {
+            LLVMDisposeMessage(error);
+            return;
+        }
+
+        compileModule(pkg.getName(), module);
+    }
+
+    private void linkProgram(Set<String> outdatedPackages) {
+        File objDir = new File(targetDir, "object");
+        File bitcodeDir = new File(targetDir, "bitcode");
+        File debugDir = new File(targetDir, "debug");
+
+        String programName = getProgramName();
+        File objectFile = new File(objDir, programName + ".obj");
+
+        // the program does not need to be linked again, if none of the packages have changed
+        if (outdatedPackages.isEmpty() && objectFile.isFile())
+            return;
+
+        objDir.mkdir();
+        debugDir.mkdir();
+
+        LinkTimeOptimizer optimizer = new LinkTimeOptimizer();
+        int packages = linkPackages(optimizer, outdatedPackages);
+        boolean cached = false;
+        try {
+            LLVMModuleRef program = optimizer.optimize(emitter, optimizationLevel);
+            LLVMPrintModuleToFile(program, new File(debugDir, programName + ".ll").getAbsolutePath(), (BytePointer) null);
+
+            String cacheKey = getCacheKey(programName, program);
+            if (cacheKey != null && fetchObject(cacheKey, objectFile))
+                cached = true;
+            else if (emitter == null || !emitter.emit(program, objectFile)) {
+                bitcodeDir.mkdir();
+                File bitcodeFile = new File(bitcodeDir, programName + ".bc");
+                LLVMWriteBitcodeToFile(program, bitcodeFile.getAbsolutePath());
+
+                // use clang to convert the LLVM bitcode file to an object file in the background
+                scheduler.submit(programName, List.of("clang", "-c", optimizationLevel.getClangFlag(), "-o",
+                    objectFile.getAbsolutePath(), bitcodeFile.getAbsolutePath()));
+                if (cacheKey != null)
+                    pendingObjects.put(objectFile, cacheKey);
+            } else if (cacheKey != null)
+                storeObject(cacheKey, objectFile);
+        } finally {
+            optimizer.dispose();
+        }
+
+        System.out.println(
+            ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+            ConsoleFormat.DARK_GRAY + "] " +
+            ConsoleFormat.RED + ConsoleFormat.BOLD + "compile" +
+            ConsoleFormat.LIGHT_GRAY + " > " +
+            ConsoleFormat.WHITE + programName +
+            ConsoleFormat.LIGHT_GRAY + " (" + packages + " packages" + (cached ? ", cached" : "") + ")" +
+            ConsoleFormat.DEFAULT
+        );
+        compiledFiles.incrementAndGet();
+    }
+
+    private int linkPackages(LinkTimeOptimizer linker, Set<String> outdatedPackages) {
+        // link the packages in the order of their module names, so that the output is reproducible
+        List<Package> packages = application
             .getPackages()
             .values()
-            .forEach(pkg -> {
-                Generator generator = pkg.getGenerator();
+            .stream()
+            .sorted(java.util.Comparator.comparing(pkg -> pkg.getGenerator().getModule().getName()))
+            .toList();
+
+        for (Package pkg : packages) {
+            IRModule module = pkg.getGenerator().getModule();
+            // the modules of the cached packages contain declarations only, therefore
+            // their bitcode is read from the output of the previous build
+            LLVMMemoryBufferRef bitcode = outdatedPackages.contains(pkg.getName())
+                ? LinkTimeOptimizer.toBitcode(module.getHandle())
+                : LinkTimeOptimizer.readBitcode(getBitcodeFile(module.getName()).getAbsolutePath());
+            if (bitcode == null || !linker.add(module.getName(), bitcode)) {
+                linker.dispose();
+                Validate.panic("Unable to link package " + pkg.getName());
+            }
+        }
+        return packages.size();
+    }
 
-                IRModule module = generator.getModule();
+    private LinkTimeOptimizer linkInMemory(Set<String> outdatedPackages) {
+        // the object file of the whole program is not updated by the in-memory build, therefore
+        // it must not be linked again by the following build, once a package has been changed
+        if (buildInfo.lto && !outdatedPackages.isEmpty())
+            new File(new File(targetDir, "object"), getProgramName() + ".obj").delete();
 
-                BytePointer error = new BytePointer((Pointer) null);
-                if (!module.verify(IRModule.VerifierFailureAction.ABORT_PROCESS, error)) {
-                    LLVMDisposeMessage(error);
-                    return;
-                }
+        LinkTimeOptimizer linker = new LinkTimeOptimizer();
+        profiler.measure(CompilePhase.LINK, settings.name, () -> linkPackages(linker, outdatedPackages));
+
+        // the package modules are optimized separately, unless link-time optimization is enabled
+        if (buildInfo.lto)
+            profiler.measure(CompilePhase.LINK_TIME_OPTIMIZE, getProgramName(),
+                () -> linker.optimize(emitter, optimizationLevel));
+        return linker;
+    }
 
-                compileModule(module);
-            });
+    private void runProgram(LinkTimeOptimizer linker) {
+        // the execution engine takes the ownership of the program module
+        JitRunner runner = JitRunner.create(linker.release(), optimizationLevel);
+        if (runner == null)
+            Validate.panic("Unable to run " + settings.name);
+
+        int status;
+        try {
+            status = runner.run(settings.name, List.of());
+        } finally {
+            runner.dispose();
+        }
+
+        System.out.println();
+        System.out.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD +
+            "[Debug]: process exited with code: " +
+            ConsoleFormat.WHITE + status +
+            ConsoleFormat.DEFAULT
+        );
+    }
+
+    @SneakyThrows
+    private void awaitNativeCompilers() {
+        int failures = 0;
+        for (ProcessScheduler.Result result : scheduler.awaitAll()) {
+            if (!result.getOutput().isBlank()) {
+                System.err.print(ConsoleFormat.DEFAULT);
+                System.err.print(result.getOutput());
+            }
+
+            if (result.isSuccess())
+                continue;
+
+            System.err.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.RED + ConsoleFormat.BOLD + "failed" +
+                ConsoleFormat.LIGHT_GRAY + " > " +
+                ConsoleFormat.WHITE + result.getModule() +
+                ConsoleFormat.LIGHT_GRAY + " (exit code " + result.getExitCode() + ")" +
+                ConsoleFormat.DEFAULT
+            );
+            failures++;
+        }
+
+        if (failures > 0)
+            Validate.panic(failures + " module(s) failed to compile");
+
+        // the object files compiled by clang are only available, once the processes have finished
+        pendingObjects.forEach((objectFile, key) -> storeObject(key, objectFile));
+        pendingObjects.clear();
     }
 
     private void initLLVM() {
@@ -247,11 +852,13 @@ public class Compiler {
         List<File> files = new ArrayList<>(Arrays.asList(list));
         Collections.reverse(files);
 
+        List<File> objectFiles = new ArrayList<>();
         List<String> args = new ArrayList<>(List.of("clang"));
         for (File file : files) {
             if (!file.getName().endsWith(".obj"))
                 continue;
 
+            objectFiles.add(file);
             args.add(file.getAbsolutePath());
         }
 
@@ -260,6 +867,19 @@ public class Compiler {
 
         // args.add("-v");
 
+        // the previous executable is reused, if it was linked from the same object files with the same arguments
+        String fingerprint = getLinkFingerprint(args, objectFiles);
+        if (exeFile.isFile() && fingerprint.equals(manifest.getLinkFingerprint())) {
+            writeManifest();
+            System.out.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.BOLD + ConsoleFormat.GREEN + "executable is up-to-date" +
+                ConsoleFormat.DEFAULT
+            );
+            return;
+        }
+
         ProcessBuilder linkBuilder = new ProcessBuilder(args);
         Process linkProcess = linkBuilder.start();
 
@@ -273,7 +893,13 @@ public class Compiler {
             .getInputStream()
             .transferTo(System.out);
 
-        linkProcess.waitFor();
+        if (linkProcess.waitFor() != 0) {
+            Validate.panic("Unable to link " + settings.name);
+            return;
+        }
+
+        manifest.setLinkFingerprint(fingerprint);
+        writeManifest();
 
         System.out.println(
             ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
@@ -283,57 +909,92 @@ public class Compiler {
         );
     }
 
-    private void readSource(File file) {
+    private void readSources(
+        List<SourceUnit> units, Set<String> outdatedPackages, Map<String, PackageInterface> interfaces
+    ) {
+        List<SourceUnit> sources = units
+            .stream()
+            .filter(unit -> outdatedPackages.contains(unit.getPackageName()))
+            .toList();
+        forAll(sources.stream().filter(unit -> unit.getTokens() == null).toList(), this::tokenizeSource);
+
+        // declare the packages in the order of the files, so that the package modules are named
+        // the same way regardless of the number of workers, and of the packages that are cached
+        units.forEach(this::declarePackage);
+
+        // define the cached declarations first, so that the recompiled methods are not registered
+        // with a name that is already used by a cached package
+        interfaces.forEach((name, packageInterface) -> profiler.measure(CompilePhase.LOAD_INTERFACE, name,
+            () -> packageInterface.define(application, application.getPackage(name))));
+
+        // parse the source files, then merge the parsed nodes into their packages in file order
+        long nodes = Node.getCreatedNodes();
+        forAll(sources, this::parseSource);
+        profiler.countNodes(Node.getCreatedNodes() - nodes);
+        sources.forEach(this::definePackage);
+    }
+
+    private SourceUnit loadSource(File file) {
         String moduleName = file
             .getAbsolutePath()
             .substring(sourceDir.getAbsolutePath().length() + 1)
             .replace('\\', '/');
 
-        // TODO invalidate cache, if the object file is missing for the source file
-        //  perhaps the files were deleted manually by the user
+        // the file is checked before it is hashed, so that a concurrent change is detected by the following build
+        long size = file.length();
+        long lastModified = file.lastModified();
 
-        // TODO you need to parse the file sill, because otherwise you won't know the cached packages contain
+        // the content of the file is not hashed again, if its size and modification time are unchanged
+        SourceRecord record = manifest.getSources().get(moduleName);
+        String checksum = record != null && record.getSize() == size && record.getLastModified() == lastModified
+            ? record.getChecksum()
+            : profiler.measure(CompilePhase.CHECKSUM, moduleName, () -> getChecksum(file));
 
-        // String checksum = getChecksum(file);
-        // String cachedChecksum = getCachedChecksum(file);
-
-        // if (checksum != null && checksum.equals(cachedChecksum)) {
-        //     System.out.println(
-        //         ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
-        //         ConsoleFormat.DARK_GRAY + "] " +
-        //         ConsoleFormat.CYAN + "cached" + ConsoleFormat.LIGHT_GRAY + " > " +
-        //         ConsoleFormat.WHITE + moduleName
-        //     );
-        //     cachedFiles++;
-        //     return;
-        // }
-        // setFileChecksum(file, checksum);
-
-        List<Token> tokens = tokenizeFile(file);
+        return new SourceUnit(file, moduleName, checksum, size, lastModified, record);
+    }
 
-        System.out.println(
-            ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
-            ConsoleFormat.DARK_GRAY + "] " +
-            ConsoleFormat.YELLOW +  "source" + ConsoleFormat.LIGHT_GRAY + " > " +
-            ConsoleFormat.WHITE + moduleName
-        );
-        parsedFiles++;
+    private void tokenizeSource(SourceUnit unit) {
+        // reuse the tokens of the file from a previous build, if the file has not been changed since
+        SourceUnit cached = tokenCache.get(unit.getModuleName());
+        if (cached != null && Objects.equals(cached.getChecksum(), unit.getChecksum())) {
+            unit.setTokens(cached.getTokens());
+            unit.setPackageNames(cached.getPackageNames());
+            unit.setTree(cached.getTree());
+            return;
+        }
 
-        Generator generator = createContext(moduleName);
+        // the tokens of a changed file are updated incrementally from its previous tokens
+        File file = unit.getFile();
+        TokenStream tokens = tokenizeFile(unit.getModuleName(), file, cached != null ? cached.getTokens() : null);
+        profiler.countTokens(unit.getModuleName(), tokens.size());
 
-        if (!tokens.get(0).is(TokenType.INFO, "package"))
+        if (!tokens.is(0, TokenType.INFO, "package"))
             throw new IllegalStateException("Package declaration is missing from file: " + file);
 
         // resolve the nested package name declaration
         List<String> names = new ArrayList<>();
-        names.add(tokens.get(1).getValue());
+        names.add(tokens.getValue(1));
+
+        for (int i = 2; !tokens.is(i, TokenType.SEMICOLON); i++)
+            names.add(tokens.getValue(i += 2));
+
+        unit.setTokens(tokens);
+        unit.setPackageNames(names);
+        // the nodes outside the edited tokens are reused from the syntax tree of the previous tokens
+        if (cached != null)
+            unit.setPreviousTree(cached.getTree());
+
+        // the nodes are cached once the file has been parsed, as the following builds only regenerate their LLVM state
+        cached = new SourceUnit(file, unit.getModuleName(), unit.getChecksum(), unit.getSize(), unit.getLastModified(), null);
+        cached.setTokens(tokens);
+        cached.setPackageNames(names);
+        tokenCache.put(unit.getModuleName(), cached);
+    }
 
-        int i = 2;
-        for (Token token = tokens.get(i); !token.is(TokenType.SEMICOLON); token = tokens.get(++i)) {
-            names.add(tokens.get(i += 2).getValue());
-        }
+    private void declarePackage(SourceUnit unit) {
+        Generator generator = createContext(unit.getModuleName());
 
-        String packageName = names.get(0);
+        String packageName = unit.getPackageName();
 
         // resolve the package of the root package name declaration
         Package pkg = application.getPackage(packageName);
@@ -342,7 +1003,12 @@ public class Compiler {
             application.addPackage(packageName, pkg);
         }
 
+        // the nested packages of a cached package are declared by its interface
+        if (unit.getTokens() == null)
+            return;
+
         // resolve the nested packages
+        List<String> names = unit.getPackageNames();
         if (names.size() > 1) {
             for (String name : names.subList(1, names.size())) {
                 Package child = pkg.getPackages().get(name);
@@ -355,7 +1021,24 @@ public class Compiler {
             }
         }
 
-        parsePackage(pkg, tokens);
+        unit.setPkg(pkg);
+    }
+
+    private String getLinkFingerprint(List<String> args, List<File> objectFiles) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String arg : args)
+                digest.update((arg + '\0').getBytes(StandardCharsets.UTF_8));
+            // the object files are hashed by their content, as the cached objects are copied with a new timestamp
+            for (File objectFile : objectFiles)
+                digest.update(String.valueOf(getChecksum(objectFile)).getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder();
+            for (byte b : digest.digest())
+                builder.append(String.format("%02x", b));
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return "";
+        }
     }
 
     private String getChecksum(File file) {
@@ -377,61 +1060,42 @@ public class Compiler {
         }
     }
 
-    private String getCachedChecksum(File file) {
-        File dataDir = new File(targetDir, "data");
-        if (!dataDir.isDirectory())
-            return null;
+    private void parseSource(SourceUnit unit) {
+        // the nodes of an unchanged file are reused from a previous build
+        if (unit.getNodes() != null)
+            return;
 
-        String fileName = file.getAbsolutePath();
-        fileName = fileName
-            .substring(0, fileName.length() - ".vs".length())
-            .substring(sourceDir.getAbsolutePath().length() + 1)
-            .replace('\\', '/')
-            .replace('/', '.');
+        Parser parser = new Parser(unit.getPkg(), unit.getTokens());
+        SyntaxTree previous = unit.getPreviousTree();
 
-        File checksumFile = new File(dataDir, fileName + ".checksum");
-        if (!checksumFile.exists())
-            return null;
+        SyntaxTree tree = profiler.measure(CompilePhase.PARSE, unit.getModuleName(),
+            () -> previous != null ? parser.parse(previous) : parser.parse());
+        if (tree.hasError())
+            throw new RuntimeException("Unable to parse " + unit.getModuleName());
 
-        String content = readFile(checksumFile);
+        unit.setTree(tree);
 
-        // remove additional newline
-        return content.substring(0, content.length() - 1);
+        SourceUnit cached = tokenCache.get(unit.getModuleName());
+        if (cached != null && cached.getTokens() == unit.getTokens())
+            cached.setTree(tree);
     }
 
-    private void setFileChecksum(File file, String checksum) {
-        File dataDir = new File(targetDir, "data");
-        dataDir.mkdir();
-
-        String fileName = file.getAbsolutePath();
-        fileName = fileName
-            .substring(0, fileName.length() - ".vs".length())
-            .substring(sourceDir.getAbsolutePath().length() + 1)
-            .replace('\\', '/')
-            .replace('/', '.');
-
-        File checksumFile = new File(dataDir, fileName + ".checksum");
-        try {
-            Files.writeString(checksumFile.toPath(), checksum);
-        } catch (Exception ignored) {
-        }
-    }
-
-    private void parsePackage(Package pkg, List<Token> tokens) {
+    private void definePackage(SourceUnit unit) {
+        Package pkg = unit.getPkg();
         Generator generator = pkg.getGenerator();
-        Parser parser = new Parser(pkg, tokens);
+        List<Node> nodes = unit.getNodes();
 
-        Node node;
-        List<Node> nodes = new ArrayList<>();
         // preprocess nodes
-        do {
-            nodes.add(node = parser.next());
-            if (node.is(NodeType.ERROR))
-                throw new RuntimeException();
-            node.preProcess(pkg);
-        } while (node.hasNext());
+        profiler.measure(CompilePhase.PRE_PROCESS, unit.getModuleName(), () -> {
+            for (Node node : nodes)
+                node.preProcess(pkg);
+        });
 
         // preprocess types
+        profiler.measure(CompilePhase.DEFINE, unit.getModuleName(), () -> defineNodes(pkg, generator, nodes));
+    }
+
+    private void defineNodes(Package pkg, Generator generator, List<Node> nodes) {
         for (Node e : nodes) {
             if (e instanceof PackageImport packageImport)
                 pkg.addAndMergeImport(packageImport.getNode());
@@ -451,73 +1115,182 @@ public class Compiler {
     }
 
     @SneakyThrows
-    private void compileModule(IRModule module) {
+    private void compileModule(String packageName, IRModule module) {
         File bitcodeDir = new File(targetDir, "bitcode");
         File objDir = new File(targetDir, "object");
         File debugDir = new File(targetDir, "debug");
 
-        bitcodeDir.mkdir();
         objDir.mkdir();
         debugDir.mkdir();
 
-        String fileName = module.getName();
-        fileName = fileName
-            .substring(0, fileName.length() - 3)
-            .replace('/', '.')
-            .replace('\\', '.');
+        String fileName = getOutputName(module.getName());
 
-        // convert the module to LLVM bitcode representation
-        File bitcodeFile = new File(bitcodeDir, fileName + ".bc");
-        module.writeBitcodeToFile(bitcodeFile);
+        // the modules are optimized after they are linked together in link-time optimization mode
+        if (!buildInfo.lto)
+            profiler.measure(CompilePhase.OPTIMIZE, packageName,
+                () -> optimizationLevel.optimize(module.getHandle(), emitter));
 
+        // convert the module to LLVM bitcode representation, if it was requested explicitly, or the bitcode
+        // is needed to link the program in link-time optimization mode, or to run the program in-memory
+        File bitcodeFile = new File(bitcodeDir, fileName + ".bc");
         File dumpFile = new File(debugDir, fileName + ".ll");
-        module.printIRToFile(dumpFile);
+        // the IR dumps are measured separately, so that the emit phase only contains the object emission
+        profiler.measure(CompilePhase.DUMP, packageName, () -> {
+            if ((emitBitcode || buildInfo.lto || runInMemory) && !lazy) {
+                bitcodeDir.mkdir();
+                module.writeBitcodeToFile(bitcodeFile);
+            }
+            module.printIRToFile(dumpFile);
+        });
 
         File objectFile = new File(objDir, fileName + ".obj");
 
-        // use clang to convert the LLVM bitcode file to an object file
-        ProcessBuilder compileBuilder = new ProcessBuilder("clang", "-c", "-o",
-            objectFile.getAbsolutePath(), bitcodeFile.getAbsolutePath());
-        Process compileProcess = compileBuilder.start();
-        compileProcess.waitFor();
+        // the object file is compiled from the linked program module in link-time optimization mode,
+        // and it is not needed at all, if the program is executed in-memory
+        if (buildInfo.lto || runInMemory) {
+            // the object file of the previous build is outdated, therefore it must not be linked anymore
+            if (runInMemory)
+                objectFile.delete();
+            // the module is missing the methods, that were not reached, therefore its bitcode
+            // is not written, so that the package is generated again by the following build
+            if (lazy)
+                bitcodeFile.delete();
+
+            System.out.println(
+                ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
+                ConsoleFormat.DARK_GRAY + "] " +
+                ConsoleFormat.RED + ConsoleFormat.BOLD + "generate" +
+                ConsoleFormat.LIGHT_GRAY + " > " +
+                ConsoleFormat.WHITE + fileName
+            );
+            compiledFiles.incrementAndGet();
+            return;
+        }
+
+        // reuse the object file of an identical module, that has been compiled by any of the projects before
+        String cacheKey = getCacheKey(packageName, module.getHandle());
+        if (cacheKey != null && fetchObject(cacheKey, objectFile)) {
+            reportCompile(fileName, true);
+            return;
+        }
+
+        // compile the module in-process using the native target machine, and fall back to clang,
+        // if the target is not available, or the emission has failed
+        boolean emitted = emitter != null &&
+            profiler.measure(CompilePhase.EMIT, packageName, () -> emitter.emit(module, objectFile));
+        if (!emitted) {
+            if (!emitBitcode) {
+                bitcodeDir.mkdir();
+                module.writeBitcodeToFile(bitcodeFile);
+            }
+
+            // use clang to convert the LLVM bitcode file to an object file in the background
+            scheduler.submit(fileName, List.of("clang", "-c", optimizationLevel.getClangFlag(), "-o",
+                objectFile.getAbsolutePath(), bitcodeFile.getAbsolutePath()));
+            if (cacheKey != null)
+                pendingObjects.put(objectFile, cacheKey);
+        } else if (cacheKey != null)
+            storeObject(cacheKey, objectFile);
+
+        reportCompile(fileName, false);
+    }
 
+    /**
+     * Calculate the object cache key of a module, that is about to be compiled by the backend.
+     * @param subject the name of the package or the program, that the module belongs to
+     * @param module the optimized LLVM module
+     * @return the cache key of the module, or null if the object caches are disabled
+     */
+    private String getCacheKey(String subject, LLVMModuleRef module) {
+        if (objectCache == null && remoteCache == null)
+            return null;
+        String target = emitter != null ? emitter.getTargetName() : "clang";
+        return profiler.measure(CompilePhase.CACHE, subject, () -> ObjectCache.getKey(module, target, optimizationLevel));
+    }
+
+    private boolean fetchObject(String key, File objectFile) {
+        // the local cache is consulted first, then the remote cache, that is shared by the other machines
+        if (objectCache != null && objectCache.fetch(key, objectFile))
+            return true;
+        if (remoteCache == null || !remoteCache.fetch(key, objectFile))
+            return false;
+
+        if (objectCache != null)
+            objectCache.store(key, objectFile);
+        return true;
+    }
+
+    private void storeObject(String key, File objectFile) {
+        if (objectCache != null)
+            objectCache.store(key, objectFile);
+        if (remoteCache != null)
+            remoteCache.store(key, objectFile);
+    }
+
+    private void reportCompile(String name, boolean cached) {
         System.out.println(
             ConsoleFormat.DARK_GRAY + "" + ConsoleFormat.BOLD + "[" + ConsoleFormat.MAGENTA + "Void" +
             ConsoleFormat.DARK_GRAY + "] " +
             ConsoleFormat.RED + ConsoleFormat.BOLD + "compile" +
             ConsoleFormat.LIGHT_GRAY + " > " +
-            ConsoleFormat.WHITE + fileName
+            ConsoleFormat.WHITE + name +
+            (cached ? ConsoleFormat.LIGHT_GRAY + " (cached)" : "") +
+            ConsoleFormat.DEFAULT
         );
-        compiledFiles++;
+        compiledFiles.incrementAndGet();
     }
 
-    private List<Token> tokenizeFile(File file) {
-        String content = readFile(file);
-
-        Tokenizer tokenizer = new Tokenizer(file, content);
-        List<Token> tokens = new ArrayList<>();
-        Token token;
+    private TokenStream tokenizeFile(String moduleName, File file, @Nullable TokenStream previous) {
+        CharBuffer content = profiler.measure(CompilePhase.READ, moduleName, () -> readFile(file));
+
+        // the semicolons are inserted while tokenizing, so there is no separate transform pass over the tokens
+        return profiler.measure(CompilePhase.TOKENIZE, moduleName, () -> {
+            Tokenizer tokenizer = new Tokenizer(file, content);
+            tokenizer.setTableDriven(true);
+            tokenizer.setInsertSemicolons(true);
+            TokenStream result = previous != null
+                ? tokenizer.tokenize(previous, symbolTable)
+                : tokenizer.tokenize(symbolTable);
+
+            int last = result.size() - 1;
+            if (result.is(last, TokenType.UNEXPECTED))
+                throw new RuntimeException(result.getValue(last));
+            return result;
+        });
+    }
 
-        do {
-            tokens.add(token = tokenizer.next());
-            if (token.is(TokenType.UNEXPECTED))
-                throw new RuntimeException(token.getValue());
-        } while (token.hasNext());
+    @SneakyThrows
+    private @NotNull CharBuffer readFile(File file) {
+        return SourceLoader.load(file);
+    }
 
-        return new Transformer(tokens).transform();
+    private <T> void forAll(List<T> inputs, Consumer<T> task) {
+        runAll(inputs, input -> {
+            task.accept(input);
+            return null;
+        });
     }
 
     @SneakyThrows
-    private @NotNull String readFile(File file) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            StringBuilder builder = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null)
-                builder
-                    .append(line)
-                    .append('\n');
-            return builder.toString();
+    private <T, R> List<R> runAll(List<T> inputs, Function<T, R> task) {
+        if (workers == null)
+            return inputs.stream().map(task).toList();
+
+        List<Callable<R>> tasks = inputs
+            .stream()
+            .map(input -> (Callable<R>) () -> task.apply(input))
+            .toList();
+
+        // collect the results in the order of the inputs, and rethrow the first failure of the workers
+        List<R> results = new ArrayList<>();
+        for (Future<R> future : workers.invokeAll(tasks)) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
         }
+        return results;
     }
 
     public Generator createContext(String moduleName) {
@@ -525,7 +1298,9 @@ public class Compiler {
         IRModule module = IRModule.create(context, moduleName);
         IRBuilder builder = IRBuilder.create(context);
 
-        return new Generator(context, module, builder);
+        Generator generator = new Generator(context, module, builder);
+        generators.add(generator);
+        return generator;
     }
 
     private List<File> walkDir(File dir) {
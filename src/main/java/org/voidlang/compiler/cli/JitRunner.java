@@ -0,0 +1,111 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.javacpp.PointerPointer;
+import org.bytedeco.llvm.LLVM.LLVMExecutionEngineRef;
+import org.bytedeco.llvm.LLVM.LLVMMCJITCompilerOptions;
+import org.bytedeco.llvm.LLVM.LLVMModuleRef;
+import org.bytedeco.llvm.LLVM.LLVMValueRef;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents an in-process executor of a linked program module. The module is compiled to machine code
+ * in memory by MCJIT, and the entry point is called directly, therefore no object files have to be written,
+ * and the system linker is not invoked.
+ * <br>
+ * The external functions of the program, such as the functions of the C library, are resolved from
+ * the symbols, that are already loaded into the process.
+ */
+public class JitRunner {
+    /**
+     * The name of the entry point of the program.
+     */
+    private static final String ENTRY_POINT = "main";
+
+    /**
+     * The execution engine that owns the program module.
+     */
+    private final LLVMExecutionEngineRef engine;
+
+    private JitRunner(LLVMExecutionEngineRef engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Create a new JIT runner for the program module. The ownership of the module is transferred
+     * to the runner, so it is disposed together with the runner.
+     * @param program the linked program module
+     * @param level the optimization level of the code generator
+     * @return the runner of the program, or null if the execution engine could not be created
+     */
+    @Nullable
+    public static JitRunner create(LLVMModuleRef program, OptimizationLevel level) {
+        LLVMMCJITCompilerOptions options = new LLVMMCJITCompilerOptions();
+        LLVMInitializeMCJITCompilerOptions(options, options.sizeof());
+        options.OptLevel(level.getCodeGenLevel());
+
+        LLVMExecutionEngineRef engine = new LLVMExecutionEngineRef();
+        BytePointer error = new BytePointer((Pointer) null);
+        if (LLVMCreateMCJITCompilerForModule(engine, program, options, options.sizeof(), error) != 0) {
+            reportError("unable to create the execution engine: " + error.getString());
+            LLVMDisposeMessage(error);
+            LLVMDisposeModule(program);
+            return null;
+        }
+        return new JitRunner(engine);
+    }
+
+    /**
+     * Compile the program and call its entry point.
+     * @param name the name of the program, that is passed as the first argument
+     * @param args the command line arguments of the program
+     * @return the exit code of the program, or -1 if the entry point is missing
+     */
+    public int run(String name, List<String> args) {
+        LLVMValueRef main = new LLVMValueRef();
+        if (LLVMFindFunction(engine, new BytePointer(ENTRY_POINT), main) != 0) {
+            reportError("the program does not have a " + ENTRY_POINT + " function");
+            return -1;
+        }
+
+        List<String> argv = new ArrayList<>();
+        argv.add(name);
+        argv.addAll(args);
+
+        // the environment is terminated by a null pointer
+        PointerPointer<BytePointer> envp = new PointerPointer<>(1);
+        envp.put(0, (Pointer) null);
+
+        // the program writes to the native standard output, that is not synchronized with the JVM
+        System.out.flush();
+        System.err.flush();
+
+        return LLVMRunFunctionAsMain(engine, main, argv.size(), new PointerPointer<>(argv.toArray(new String[0])), envp);
+    }
+
+    /**
+     * Dispose the execution engine and the program module.
+     */
+    public void dispose() {
+        LLVMDisposeExecutionEngine(engine);
+    }
+
+    /**
+     * Display an LLVM backend error in the console.
+     * @param message error message
+     */
+    private static void reportError(String message) {
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[JIT]: " +
+            ConsoleFormat.WHITE + message +
+            ConsoleFormat.DEFAULT
+        );
+    }
+}
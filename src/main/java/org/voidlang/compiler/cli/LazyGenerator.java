@@ -0,0 +1,144 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.llvm.LLVM.LLVMBasicBlockRef;
+import org.bytedeco.llvm.LLVM.LLVMValueRef;
+import org.jetbrains.annotations.Nullable;
+import org.voidlang.compiler.builder.Package;
+import org.voidlang.compiler.node.Generator;
+import org.voidlang.compiler.node.element.Class;
+import org.voidlang.compiler.node.element.ImportedMethod;
+import org.voidlang.compiler.node.element.Method;
+
+import java.util.*;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents a generator, that emits the bodies of the top-level methods on demand, starting from the entry
+ * point of the program. Every method is declared as an LLVM function before the generation, therefore
+ * the callees of a generated method can be found by scanning its instructions for function operands.
+ * <br>
+ * The methods, that are never reached from the entry point, are left as external declarations, so the program
+ * only pays for generating, optimizing and compiling the methods it may actually call.
+ */
+public class LazyGenerator {
+    /**
+     * The name of the entry point of the program.
+     */
+    private static final String ENTRY_POINT = "main";
+
+    /**
+     * The packages, that should be generated.
+     */
+    private final Collection<Package> packages;
+
+    /**
+     * The methods that can be generated, by their final names.
+     */
+    private final Map<String, Method> methods = new HashMap<>();
+
+    /**
+     * The generators of the packages, that the methods belong to.
+     */
+    private final Map<Method, Generator> generators = new HashMap<>();
+
+    /**
+     * The methods that have already been requested.
+     */
+    private final Set<Method> requested = new HashSet<>();
+
+    /**
+     * The requested methods, that are not generated yet.
+     */
+    private final Deque<Method> queue = new ArrayDeque<>();
+
+    /**
+     * The number of methods, that could have been generated.
+     */
+    @Getter
+    private int total;
+
+    /**
+     * Initialize the lazy generator for the packages being compiled.
+     * @param packages the packages, that should be generated
+     */
+    public LazyGenerator(Collection<Package> packages) {
+        this.packages = packages;
+        for (Package pkg : packages) {
+            for (List<Method> methodList : pkg.getMethods().values()) {
+                for (Method method : methodList) {
+                    // imported and cached methods are generated by their own packages
+                    if (method instanceof ImportedMethod || method.isBodyLess())
+                        continue;
+                    methods.put(method.getFinalName(), method);
+                    generators.put(method, pkg.getGenerator());
+                }
+            }
+        }
+        total = methods.size();
+    }
+
+    /**
+     * Generate the entry point of the program, and all the methods, that it may call, either directly
+     * or transitively.
+     * @return the number of generated methods
+     */
+    public int generate() {
+        // the class layouts and their methods are generated eagerly, therefore the methods
+        // that are called by the class methods must be generated as well
+        for (Package pkg : packages) {
+            for (Class clazz : pkg.getClasses().values()) {
+                clazz.generate(pkg.getGenerator());
+                for (List<Method> methodList : clazz.getMethods().values()) {
+                    for (Method method : methodList)
+                        scan(method.getFunction().getHandle());
+                }
+            }
+        }
+
+        request(ENTRY_POINT);
+
+        while (!queue.isEmpty()) {
+            Method method = queue.poll();
+            method.generate(generators.get(method));
+            scan(method.getFunction().getHandle());
+        }
+
+        return requested.size();
+    }
+
+    /**
+     * Request the generation of the method with the specified final name.
+     * @param name the final name of the method
+     */
+    private void request(String name) {
+        Method method = methods.get(name);
+        if (method != null && requested.add(method))
+            queue.add(method);
+    }
+
+    /**
+     * Request the generation of every function, that is referenced by the instructions of the function.
+     * The functions may be referenced by calls, or they may be passed as values.
+     * @param function the generated LLVM function
+     */
+    private void scan(LLVMValueRef function) {
+        for (LLVMBasicBlockRef block = LLVMGetFirstBasicBlock(function); isPresent(block);
+             block = LLVMGetNextBasicBlock(block)) {
+            for (LLVMValueRef instruction = LLVMGetFirstInstruction(block); isPresent(instruction);
+                 instruction = LLVMGetNextInstruction(instruction)) {
+                for (int i = 0; i < LLVMGetNumOperands(instruction); i++) {
+                    LLVMValueRef operand = LLVMGetOperand(instruction, i);
+                    if (isPresent(operand) && isPresent(LLVMIsAFunction(operand)))
+                        request(LLVMGetValueName(operand).getString());
+                }
+            }
+        }
+    }
+
+    private static boolean isPresent(@Nullable Pointer pointer) {
+        return pointer != null && !pointer.isNull();
+    }
+}
@@ -0,0 +1,154 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.llvm.LLVM.*;
+import org.jetbrains.annotations.Nullable;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents a whole-program optimizer, that links the modules of every package into a single module,
+ * so that LLVM is able to inline functions across packages, and to drop the functions that are not used
+ * by the program.
+ * <br>
+ * The package modules are owned by separate contexts, therefore they are transferred to the context
+ * of the program using their bitcode representation.
+ */
+public class LinkTimeOptimizer {
+    /**
+     * The name of the entry point of the program, that must not be internalized.
+     */
+    private static final String ENTRY_POINT = "main";
+
+    /**
+     * The LLVM context that owns the linked program module.
+     */
+    private final LLVMContextRef context = LLVMContextCreate();
+
+    /**
+     * The module that the package modules are linked into.
+     */
+    private LLVMModuleRef program;
+
+    /**
+     * Link the module of a package into the program module.
+     * @param name the name of the package module
+     * @param bitcode the bitcode of the package module, that is disposed by this method
+     * @return true if the module has been linked successfully
+     */
+    public boolean add(String name, LLVMMemoryBufferRef bitcode) {
+        LLVMModuleRef module = new LLVMModuleRef();
+        try {
+            if (LLVMParseBitcodeInContext2(context, bitcode, module) != 0) {
+                reportError("unable to read the bitcode of " + name);
+                return false;
+            }
+        } finally {
+            LLVMDisposeMemoryBuffer(bitcode);
+        }
+
+        // global variables are private to the module that declared them, such as the string constants,
+        // therefore make sure, that the same global names of different modules do not collide
+        for (LLVMValueRef global = LLVMGetFirstGlobal(module); isPresent(global); global = LLVMGetNextGlobal(global)) {
+            if (LLVMIsDeclaration(global) == 0)
+                LLVMSetLinkage(global, LLVMInternalLinkage);
+        }
+
+        if (program == null) {
+            program = module;
+            return true;
+        }
+
+        // the source module is destroyed by the linker
+        if (LLVMLinkModules2(program, module) != 0) {
+            reportError("unable to link " + name);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Internalize every function of the program except the entry point, and run the optimization pipeline.
+     * @param emitter the emitter of the target machine, or null if the host target is not available
+     * @param level the optimization level of the program
+     * @return the optimized program module
+     */
+    public LLVMModuleRef optimize(@Nullable ObjectEmitter emitter, OptimizationLevel level) {
+        // the functions that are not exported can be inlined or removed, once they are not used anymore
+        for (LLVMValueRef function = LLVMGetFirstFunction(program); isPresent(function); function = LLVMGetNextFunction(function)) {
+            if (LLVMIsDeclaration(function) != 0)
+                continue;
+            if (!LLVMGetValueName(function).getString().equals(ENTRY_POINT))
+                LLVMSetLinkage(function, LLVMInternalLinkage);
+        }
+
+        level.optimize(program, emitter);
+        return program;
+    }
+
+    /**
+     * Detach the program module from the optimizer, so that it is not disposed by {@link #dispose()}.
+     * The module is still owned by the context of the optimizer, therefore the optimizer must be
+     * disposed after the new owner of the module.
+     * @return the linked program module
+     */
+    public LLVMModuleRef release() {
+        LLVMModuleRef module = program;
+        program = null;
+        return module;
+    }
+
+    /**
+     * Dispose the program module and its context.
+     */
+    public void dispose() {
+        if (program != null)
+            LLVMDisposeModule(program);
+        LLVMContextDispose(context);
+    }
+
+    /**
+     * Serialize a module to an in-memory bitcode buffer.
+     * @param module the module to be serialized
+     * @return the bitcode of the module
+     */
+    public static LLVMMemoryBufferRef toBitcode(LLVMModuleRef module) {
+        return LLVMWriteBitcodeToMemoryBuffer(module);
+    }
+
+    /**
+     * Read the bitcode of a module from a file, that was written by a previous build.
+     * @param path the path of the bitcode file
+     * @return the bitcode of the module, or null if the file could not be read
+     */
+    @Nullable
+    public static LLVMMemoryBufferRef readBitcode(String path) {
+        LLVMMemoryBufferRef buffer = new LLVMMemoryBufferRef();
+        BytePointer error = new BytePointer((Pointer) null);
+        if (LLVMCreateMemoryBufferWithContentsOfFile(new BytePointer(path), buffer, error) != 0) {
+            reportError("unable to read " + path + (error.isNull() ? "" : ": " + error.getString()));
+            if (!error.isNull())
+                LLVMDisposeMessage(error);
+            return null;
+        }
+        return buffer;
+    }
+
+    private static boolean isPresent(@Nullable Pointer pointer) {
+        return pointer != null && !pointer.isNull();
+    }
+
+    /**
+     * Display an LLVM backend error in the console.
+     * @param message error message
+     */
+    private static void reportError(String message) {
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[LTO]: " +
+            ConsoleFormat.WHITE + message +
+            ConsoleFormat.DEFAULT
+        );
+    }
+}
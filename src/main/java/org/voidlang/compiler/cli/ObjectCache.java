@@ -0,0 +1,317 @@
+package org.voidlang.compiler.cli;
+
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.llvm.LLVM.LLVMMemoryBufferRef;
+import org.bytedeco.llvm.LLVM.LLVMModuleRef;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents a user-level cache of compiled object files, that is shared by every project on the machine.
+ * The objects are addressed by the hash of the module bitcode, the target and the optimization level,
+ * therefore packages, that are vendored by multiple projects, are only compiled by the backend once.
+ * <br>
+ * The entries are written to temporary files first, and they are moved to their final location atomically,
+ * so that concurrent builds never observe a partially written object. Once the cache grows over its size limit,
+ * the least recently used entries are evicted.
+ * <br>
+ * The SHA-256 hash of each object is stored next to it, so that the objects served to other machines
+ * can be verified by the receiver.
+ */
+public class ObjectCache {
+    /**
+     * The default maximum size of the cache in bytes.
+     */
+    private static final long DEFAULT_LIMIT = 512L * 1024 * 1024;
+
+    /**
+     * The time after which an abandoned temporary file is deleted, in milliseconds.
+     */
+    private static final long TEMP_FILE_EXPIRY = 60 * 60 * 1000;
+
+    /**
+     * The directory that contains the cached object files.
+     */
+    private final File dir;
+
+    /**
+     * The maximum size of the cache in bytes.
+     */
+    private final long limit;
+
+    public ObjectCache(File dir, long limit) {
+        this.dir = dir;
+        this.limit = limit;
+    }
+
+    /**
+     * Create the object cache in the home directory of the user.
+     * @return the object cache of the user, or null if the cache directory cannot be created
+     */
+    @Nullable
+    public static ObjectCache createDefault() {
+        File dir = new File(new File(System.getProperty("user.home"), ".void"), "cache");
+        if (!dir.isDirectory() && !dir.mkdirs())
+            return null;
+        return new ObjectCache(dir, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Calculate the cache key of a module, that is about to be compiled by the backend.
+     * @param module the optimized LLVM module
+     * @param target the description of the target, that the module is compiled for
+     * @param level the optimization level of the code generator
+     * @return the hexadecimal cache key of the module
+     */
+    public static String getKey(LLVMModuleRef module, String target, OptimizationLevel level) {
+        LLVMMemoryBufferRef buffer = LLVMWriteBitcodeToMemoryBuffer(module);
+        try {
+            BytePointer start = LLVMGetBufferStart(buffer);
+            byte[] bitcode = new byte[(int) LLVMGetBufferSize(buffer)];
+            start.get(bitcode);
+            return getKey(bitcode, target, level);
+        } finally {
+            LLVMDisposeMemoryBuffer(buffer);
+        }
+    }
+
+    /**
+     * Calculate the cache key of the bitcode of a module.
+     * @param bitcode the bitcode of the optimized module
+     * @param target the description of the target, that the module is compiled for
+     * @param level the optimization level of the code generator
+     * @return the hexadecimal cache key of the module
+     */
+    public static String getKey(byte[] bitcode, String target, OptimizationLevel level) {
+        MessageDigest digest = createDigest();
+        digest.update(bitcode);
+        digest.update((byte) 0);
+        digest.update(target.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(level.name().getBytes(StandardCharsets.UTF_8));
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Calculate the content hash of a compiled object.
+     * @param content the content of the object file
+     * @return the hexadecimal SHA-256 hash of the content
+     */
+    public static String getChecksum(byte[] content) {
+        MessageDigest digest = createDigest();
+        digest.update(content);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Calculate the content hash of a compiled object file.
+     * @param file the object file
+     * @return the hexadecimal SHA-256 hash of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static String getChecksum(File file) throws IOException {
+        MessageDigest digest = createDigest();
+        try (InputStream stream = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Copy the cached object of the specified key to the target file.
+     * @param key the cache key of the module
+     * @param objectFile the output object file
+     * @return true if the object has been found in the cache, and its content matches its hash
+     */
+    public boolean fetch(String key, File objectFile) {
+        File entry = getEntry(key);
+        String checksum = getChecksum(key);
+        if (!entry.isFile() || checksum == null)
+            return false;
+
+        try {
+            Files.copy(entry.toPath(), objectFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            // the entry might have been corrupted on the disk, it is removed so that it is compiled again
+            if (!checksum.equals(getChecksum(objectFile))) {
+                objectFile.delete();
+                entry.delete();
+                getChecksumFile(key).delete();
+                return false;
+            }
+            // mark the entry as recently used, so that it is evicted last
+            entry.setLastModified(System.currentTimeMillis());
+            return true;
+        } catch (IOException e) {
+            // the entry might have been evicted by a concurrent build meanwhile
+            objectFile.delete();
+            return false;
+        }
+    }
+
+    /**
+     * Get the cached object file of the specified key, and mark it as recently used.
+     * @param key the cache key of the module
+     * @return the cached object file, or null if the key is not cached
+     */
+    @Nullable
+    public File getObject(String key) {
+        File entry = getEntry(key);
+        if (!entry.isFile())
+            return null;
+        entry.setLastModified(System.currentTimeMillis());
+        return entry;
+    }
+
+    /**
+     * Store the compiled object of the specified key in the cache.
+     * @param key the cache key of the module
+     * @param objectFile the compiled object file
+     */
+    public void store(String key, File objectFile) {
+        if (getEntry(key).isFile() || !objectFile.isFile())
+            return;
+
+        try (InputStream stream = Files.newInputStream(objectFile.toPath())) {
+            store(key, stream);
+        } catch (IOException ignored) {
+            // the cache is only an optimization, the build does not fail, if it cannot be written
+        }
+    }
+
+    /**
+     * Get the content hash of the cached object of the specified key.
+     * @param key the cache key of the module
+     * @return the hexadecimal SHA-256 hash of the object, or null if the key is not cached
+     */
+    @Nullable
+    public String getChecksum(String key) {
+        try {
+            return Files.readString(getChecksumFile(key).toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Store the content of the compiled object of the specified key in the cache.
+     * @param key the cache key of the module
+     * @param stream the content of the compiled object
+     * @return true if the object has been stored successfully
+     */
+    public boolean store(String key, InputStream stream) {
+        return store(key, stream, null);
+    }
+
+    /**
+     * Store the content of the compiled object of the specified key in the cache.
+     * @param key the cache key of the module
+     * @param stream the content of the compiled object
+     * @param checksum the expected content hash of the object, or null if it is not known
+     * @return true if the object has been stored successfully
+     */
+    public boolean store(String key, InputStream stream, @Nullable String checksum) {
+        File temp = null;
+        File checksumTemp = null;
+        try {
+            MessageDigest digest = createDigest();
+            temp = File.createTempFile(key, ".tmp", dir);
+            Files.copy(new DigestInputStream(stream, digest), temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            // the object was corrupted on its way, therefore it must not be served to other machines
+            String actual = toHex(digest.digest());
+            if (checksum != null && !checksum.equals(actual)) {
+                temp.delete();
+                return false;
+            }
+
+            // the hash is moved first, so that every visible entry has its hash next to it
+            checksumTemp = File.createTempFile(key, ".tmp", dir);
+            Files.writeString(checksumTemp.toPath(), actual, StandardCharsets.UTF_8);
+            Files.move(checksumTemp.toPath(), getChecksumFile(key).toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp.toPath(), getEntry(key).toPath(), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (temp != null)
+                temp.delete();
+            if (checksumTemp != null)
+                checksumTemp.delete();
+            return false;
+        }
+
+        evict();
+        return true;
+    }
+
+    /**
+     * Delete the least recently used entries, until the size of the cache is below the limit.
+     */
+    public synchronized void evict() {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+
+        long now = System.currentTimeMillis();
+        long size = 0;
+        for (File file : files) {
+            // the temporary files of the builds, that have been terminated while writing an entry
+            if (file.getName().endsWith(".tmp") && now - file.lastModified() > TEMP_FILE_EXPIRY)
+                file.delete();
+            else if (file.getName().endsWith(".obj"))
+                size += file.length();
+        }
+        if (size <= limit)
+            return;
+
+        File[] entries = dir.listFiles((parent, name) -> name.endsWith(".obj"));
+        if (entries == null)
+            return;
+        Arrays.sort(entries, Comparator.comparingLong(File::lastModified));
+
+        for (File entry : entries) {
+            if (size <= limit)
+                break;
+            long length = entry.length();
+            if (entry.delete())
+                size -= length;
+            new File(dir, entry.getName().replace(".obj", ".sha256")).delete();
+        }
+    }
+
+    private File getEntry(String key) {
+        return new File(dir, key + ".obj");
+    }
+
+    private File getChecksumFile(String key) {
+        return new File(dir, key + ".sha256");
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHex(byte[] hash) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : hash)
+            builder.append(String.format("%02x", b));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import lombok.Getter;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Pointer;
+import org.bytedeco.llvm.LLVM.LLVMModuleRef;
+import org.bytedeco.llvm.LLVM.LLVMTargetDataRef;
+import org.bytedeco.llvm.LLVM.LLVMTargetMachineRef;
+import org.bytedeco.llvm.LLVM.LLVMTargetRef;
+import org.jetbrains.annotations.Nullable;
+import org.voidlang.llvm.element.IRModule;
+
+import java.io.File;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents an object file emitter, that compiles LLVM modules in-process using the target machine of the host,
+ * instead of spawning a native compiler process for each module.
+ */
+public class ObjectEmitter {
+    /**
+     * The target triple that the modules are compiled for.
+     */
+    @Getter
+    private final String triple;
+
+    /**
+     * The LLVM target of the target triple.
+     */
+    private final LLVMTargetRef target;
+
+    /**
+     * The name of the host CPU to generate code for.
+     */
+    private final String cpu;
+
+    /**
+     * The features of the host CPU to generate code with.
+     */
+    private final String features;
+
+    /**
+     * The optimization level that the object files are generated with.
+     */
+    @Getter
+    private final OptimizationLevel level;
+
+    private ObjectEmitter(String triple, LLVMTargetRef target, String cpu, String features, OptimizationLevel level) {
+        this.triple = triple;
+        this.target = target;
+        this.cpu = cpu;
+        this.features = features;
+        this.level = level;
+    }
+
+    /**
+     * Compile the specified module to a native object file.
+     * @param module LLVM module to be compiled
+     * @param objectFile the output object file
+     * @return true if the object file was emitted successfully
+     */
+    public boolean emit(IRModule module, File objectFile) {
+        return emit(module.getHandle(), objectFile);
+    }
+
+    /**
+     * Compile the specified module handle to a native object file.
+     * @param handle LLVM module handle to be compiled
+     * @param objectFile the output object file
+     * @return true if the object file was emitted successfully
+     */
+    public boolean emit(LLVMModuleRef handle, File objectFile) {
+        // target machines are not thread-safe, therefore each emission creates its own machine
+        LLVMTargetMachineRef machine = createTargetMachine(level.getCodeGenLevel());
+        try {
+            prepareModule(handle, machine);
+
+            BytePointer error = new BytePointer((Pointer) null);
+            if (LLVMTargetMachineEmitToFile(machine, handle, objectFile.getAbsolutePath(), LLVMObjectFile, error) != 0) {
+                reportError("unable to emit " + objectFile.getName(), error);
+                return false;
+            }
+            return true;
+        } finally {
+            LLVMDisposeTargetMachine(machine);
+        }
+    }
+
+    /**
+     * Get the description of the machine code, that is generated by the emitter. The objects of the same module
+     * are only interchangeable, if they were generated for the same target triple and CPU features.
+     * @return the target triple, the CPU name and the CPU features
+     */
+    public String getTargetName() {
+        return triple + " " + cpu + " " + features;
+    }
+
+    /**
+     * Set the target triple and the data layout of the module to match the target machine.
+     * @param module LLVM module handle
+     * @param machine LLVM target machine
+     */
+    public void prepareModule(LLVMModuleRef module, LLVMTargetMachineRef machine) {
+        LLVMSetTarget(module, triple);
+        LLVMTargetDataRef layout = LLVMCreateTargetDataLayout(machine);
+        LLVMSetModuleDataLayout(module, layout);
+        LLVMDisposeTargetData(layout);
+    }
+
+    /**
+     * Create a new target machine for the target triple of the emitter.
+     * @param level the code generation optimization level
+     * @return new LLVM target machine
+     */
+    public LLVMTargetMachineRef createTargetMachine(int level) {
+        return LLVMCreateTargetMachine(target, triple, cpu, features, level, LLVMRelocDefault, LLVMCodeModelDefault);
+    }
+
+    /**
+     * Create an object emitter for the host machine.
+     * @param level the optimization level of the generated code
+     * @return new object emitter or null if the host target is not available
+     */
+    @Nullable
+    public static ObjectEmitter createNative(OptimizationLevel level) {
+        String triple = takeMessage(LLVMGetDefaultTargetTriple());
+
+        LLVMTargetRef target = new LLVMTargetRef();
+        BytePointer error = new BytePointer((Pointer) null);
+        if (LLVMGetTargetFromTriple(new BytePointer(triple), target, error) != 0) {
+            reportError("unable to resolve target " + triple, error);
+            return null;
+        }
+
+        String cpu = takeMessage(LLVMGetHostCPUName());
+        String features = takeMessage(LLVMGetHostCPUFeatures());
+
+        return new ObjectEmitter(triple, target, cpu, features, level);
+    }
+
+    /**
+     * Copy the content of an LLVM allocated message and dispose it.
+     * @param message LLVM message
+     * @return message content
+     */
+    private static String takeMessage(BytePointer message) {
+        String value = message.getString();
+        LLVMDisposeMessage(message);
+        return value;
+    }
+
+    /**
+     * Display an LLVM backend error in the console.
+     * @param message error message
+     * @param error LLVM error message
+     */
+    private static void reportError(String message, BytePointer error) {
+        String details = error.isNull() ? "" : ": " + error.getString();
+        if (!error.isNull())
+            LLVMDisposeMessage(error);
+
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[Emitter]: " +
+            ConsoleFormat.WHITE + message + details +
+            ConsoleFormat.DEFAULT
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.llvm.LLVM.LLVMErrorRef;
+import org.bytedeco.llvm.LLVM.LLVMModuleRef;
+import org.bytedeco.llvm.LLVM.LLVMPassBuilderOptionsRef;
+import org.bytedeco.llvm.LLVM.LLVMTargetMachineRef;
+import org.jetbrains.annotations.Nullable;
+
+import static org.bytedeco.llvm.global.LLVM.*;
+
+/**
+ * Represents an optimization level of the generated code. Each level selects a default pipeline
+ * of the new LLVM pass manager, and the code generation level of the target machine.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum OptimizationLevel {
+    O0("default<O0>", LLVMCodeGenLevelNone),
+    O1("default<O1>", LLVMCodeGenLevelLess),
+    O2("default<O2>", LLVMCodeGenLevelDefault),
+    O3("default<O3>", LLVMCodeGenLevelAggressive),
+    Os("default<Os>", LLVMCodeGenLevelDefault),
+    Oz("default<Oz>", LLVMCodeGenLevelDefault);
+
+    /**
+     * The optimization level of the builds, that do not specify one on the command line or in the build configuration.
+     */
+    public static final OptimizationLevel DEFAULT = O2;
+
+    /**
+     * The pass pipeline description of the optimization level.
+     */
+    private final String pipeline;
+
+    /**
+     * The code generation level of the target machine.
+     */
+    private final int codeGenLevel;
+
+    /**
+     * Get the command line flag of the optimization level, that is passed to clang.
+     * @return clang optimization flag
+     */
+    public String getClangFlag() {
+        return "-" + name();
+    }
+
+    /**
+     * Run the optimization pipeline of this level on the specified module.
+     * @param module LLVM module to be optimized
+     * @param emitter the emitter of the target machine, or null if the host target is not available
+     */
+    public void optimize(LLVMModuleRef module, @Nullable ObjectEmitter emitter) {
+        // the unoptimized pipeline would not change the module in any meaningful way
+        if (this == O0)
+            return;
+
+        // let the passes query the cost model of the target, if it is available
+        LLVMTargetMachineRef machine = emitter != null ? emitter.createTargetMachine(codeGenLevel) : null;
+        LLVMPassBuilderOptionsRef options = LLVMCreatePassBuilderOptions();
+        try {
+            if (machine != null)
+                emitter.prepareModule(module, machine);
+
+            LLVMErrorRef error = LLVMRunPasses(module, pipeline, machine, options);
+            if (error != null && !error.isNull()) {
+                BytePointer message = LLVMGetErrorMessage(error);
+                System.err.println(
+                    ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[Optimizer]: " +
+                    ConsoleFormat.WHITE + "unable to run " + pipeline + ": " + message.getString() +
+                    ConsoleFormat.DEFAULT
+                );
+                LLVMDisposeErrorMessage(message);
+            }
+        } finally {
+            LLVMDisposePassBuilderOptions(options);
+            if (machine != null)
+                LLVMDisposeTargetMachine(machine);
+        }
+    }
+
+    /**
+     * Parse an optimization level from its user-specified name, such as {@code 2}, {@code O2} or {@code s}.
+     * @param value the name of the optimization level
+     * @return the optimization level, or null if the name is invalid
+     */
+    @Nullable
+    public static OptimizationLevel parse(String value) {
+        String name = value.trim();
+        if (name.startsWith("-"))
+            name = name.substring(1);
+        if (name.startsWith("O") || name.startsWith("o"))
+            name = name.substring(1);
+
+        for (OptimizationLevel level : values()) {
+            if (level.name().substring(1).equals(name))
+                return level;
+        }
+        return null;
+    }
+}
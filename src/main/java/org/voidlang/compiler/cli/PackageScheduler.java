@@ -0,0 +1,187 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.Nullable;
+import org.voidlang.compiler.builder.Package;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * Represents a scheduler that processes the packages in the order of their dependency graph, instead of
+ * running each compilation phase for every package at once. A package is processed as soon as the packages
+ * it imports are processed, so that independent subgraphs of the program are pipelined on the workers.
+ * <br>
+ * A package is compiled once the packages that import it have been processed as well, as their passes
+ * look up the types of the imported classes and structs in the LLVM context of the imported package,
+ * and an LLVM context must not be used by multiple threads at the same time.
+ * <br>
+ * Packages that import each other, directly or transitively, form a single component of the graph,
+ * that is processed as one unit.
+ */
+public class PackageScheduler {
+    /**
+     * The strongly connected components of the dependency graph, ordered so that each component
+     * follows the components it depends on.
+     */
+    @Getter
+    private final List<List<Package>> components = new ArrayList<>();
+
+    /**
+     * The components that each component depends on.
+     */
+    private final Map<List<Package>, Set<List<Package>>> dependencies = new HashMap<>();
+
+    /**
+     * The components that depend on each component.
+     */
+    private final Map<List<Package>, Set<List<Package>>> dependents = new HashMap<>();
+
+    /**
+     * The component of each package.
+     */
+    private final Map<Package, List<Package>> componentOf = new HashMap<>();
+
+    /**
+     * The packages that each package imports or uses, restricted to the scheduled packages.
+     */
+    private final Map<Package, List<Package>> edges = new LinkedHashMap<>();
+
+    /**
+     * The state of Tarjan's algorithm, that is used to find the components of the graph.
+     */
+    private final Map<Package, Integer> indices = new HashMap<>();
+    private final Map<Package, Integer> lowLinks = new HashMap<>();
+    private final Deque<Package> stack = new ArrayDeque<>();
+    private final Set<Package> onStack = new HashSet<>();
+
+    /**
+     * Build the dependency graph of the specified packages.
+     * @param packages the root packages of the application
+     */
+    public PackageScheduler(Collection<Package> packages) {
+        for (Package pkg : packages)
+            edges.put(pkg, new ArrayList<>());
+        for (Package pkg : packages) {
+            for (Package dependency : pkg.getDependencies()) {
+                if (edges.containsKey(dependency))
+                    edges.get(pkg).add(dependency);
+            }
+        }
+
+        for (Package pkg : edges.keySet()) {
+            if (!indices.containsKey(pkg))
+                connect(pkg);
+        }
+
+        for (List<Package> component : components) {
+            Set<List<Package>> required = new HashSet<>();
+            for (Package pkg : component) {
+                for (Package dependency : edges.get(pkg))
+                    required.add(componentOf.get(dependency));
+            }
+            required.remove(component);
+            dependencies.put(component, required);
+            for (List<Package> dependency : required)
+                dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(component);
+        }
+    }
+
+    /**
+     * Find the strongly connected component of the package. The components are completed in the reverse order
+     * of the dependency edges, therefore a component is added only after all of its dependencies have been added.
+     * @param pkg the package to visit
+     */
+    private void connect(Package pkg) {
+        int index = indices.size();
+        indices.put(pkg, index);
+        lowLinks.put(pkg, index);
+        stack.push(pkg);
+        onStack.add(pkg);
+
+        for (Package dependency : edges.get(pkg)) {
+            if (!indices.containsKey(dependency)) {
+                connect(dependency);
+                lowLinks.put(pkg, Math.min(lowLinks.get(pkg), lowLinks.get(dependency)));
+            } else if (onStack.contains(dependency))
+                lowLinks.put(pkg, Math.min(lowLinks.get(pkg), indices.get(dependency)));
+        }
+
+        if (!lowLinks.get(pkg).equals(indices.get(pkg)))
+            return;
+
+        List<Package> component = new ArrayList<>();
+        Package member;
+        do {
+            member = stack.pop();
+            onStack.remove(member);
+            component.add(0, member);
+            componentOf.put(member, component);
+        } while (member != pkg);
+        components.add(component);
+    }
+
+    /**
+     * Process and compile the packages in the order of the dependency graph.
+     * @param executor the workers to run the tasks on, or null to run them on the current thread
+     * @param process the task that processes the packages of a component, once its dependencies are processed
+     * @param compile the task that compiles a package, once its component and the components that depend on it
+     * are processed, or null to skip compiling
+     */
+    @SneakyThrows
+    public void run(
+        @Nullable ExecutorService executor, Consumer<List<Package>> process, @Nullable Consumer<Package> compile
+    ) {
+        // the contexts are only used by the current thread, so a package is compiled right after its passes
+        if (executor == null) {
+            for (List<Package> component : components) {
+                process.accept(component);
+                if (compile != null)
+                    component.forEach(compile);
+            }
+            return;
+        }
+
+        Map<List<Package>, CompletableFuture<Void>> processed = new HashMap<>();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+
+        for (List<Package> component : components) {
+            CompletableFuture<?>[] required = dependencies
+                .get(component)
+                .stream()
+                .map(processed::get)
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture<Void> task = CompletableFuture
+                .allOf(required)
+                .thenRunAsync(() -> process.accept(component), executor);
+            processed.put(component, task);
+            tasks.add(task);
+        }
+
+        if (compile != null) {
+            for (List<Package> component : components) {
+                List<CompletableFuture<Void>> required = new ArrayList<>();
+                required.add(processed.get(component));
+                for (List<Package> dependent : dependents.getOrDefault(component, Set.of()))
+                    required.add(processed.get(dependent));
+
+                // the packages of the component are compiled independently of each other
+                CompletableFuture<Void> ready = CompletableFuture.allOf(required.toArray(CompletableFuture[]::new));
+                for (Package pkg : component)
+                    tasks.add(ready.thenRunAsync(() -> compile.accept(pkg), executor));
+            }
+        }
+
+        // wait for every task, then rethrow the first failure of the workers
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+}
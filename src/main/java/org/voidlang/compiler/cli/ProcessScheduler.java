@@ -0,0 +1,125 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Represents a scheduler that runs native compiler processes in the background, keeping a bounded
+ * number of processes in flight at a time. The output of each process is collected by its worker,
+ * and the result is reported per module, once all the scheduled processes are awaited.
+ */
+public class ProcessScheduler {
+    /**
+     * The workers that start the processes and collect their output.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The pending results of the scheduled processes, in the order of scheduling.
+     */
+    private final List<Future<Result>> results = new ArrayList<>();
+
+    /**
+     * Initialize the process scheduler.
+     * @param limit the maximum number of processes running at the same time
+     */
+    public ProcessScheduler(int limit) {
+        executor = Executors.newFixedThreadPool(Math.max(1, limit), task -> {
+            Thread thread = new Thread(task, "native-compiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedule a new process to be executed for the specified module.
+     * @param module the name of the module that the process compiles
+     * @param command the command line of the process
+     */
+    public void submit(String module, List<String> command) {
+        Future<Result> result = executor.submit(() -> {
+            try {
+                Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .start();
+
+                // drain the output before waiting, so the process cannot block on a full pipe
+                String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+                return new Result(module, process.waitFor(), output);
+            } catch (Exception e) {
+                return new Result(module, -1, "unable to run " + command.get(0) + ": " + e.getMessage());
+            }
+        });
+
+        synchronized (results) {
+            results.add(result);
+        }
+    }
+
+    /**
+     * Wait for all the scheduled processes to terminate.
+     * @return the results of the processes, in the order of scheduling
+     */
+    public List<Result> awaitAll() throws InterruptedException {
+        List<Future<Result>> pending;
+        synchronized (results) {
+            pending = new ArrayList<>(results);
+            results.clear();
+        }
+
+        List<Result> completed = new ArrayList<>();
+        for (Future<Result> future : pending) {
+            try {
+                completed.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Native compiler worker failed", e.getCause());
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * Stop the workers of the scheduler.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Represents the outcome of a native compiler process.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static class Result {
+        /**
+         * The name of the module that the process has compiled.
+         */
+        private final String module;
+
+        /**
+         * The exit code of the process, or -1 if it could not be started.
+         */
+        private final int exitCode;
+
+        /**
+         * The combined standard output and error of the process.
+         */
+        private final String output;
+
+        /**
+         * Indicate, whether the process has terminated successfully.
+         * @return true if the process exited with code 0
+         */
+        public boolean isSuccess() {
+            return exitCode == 0;
+        }
+    }
+}
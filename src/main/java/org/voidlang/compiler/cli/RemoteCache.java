@@ -0,0 +1,191 @@
+package org.voidlang.compiler.cli;
+
+import dev.inventex.octa.console.ConsoleFormat;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+/**
+ * Represents a client of a remote object cache, that is shared by multiple machines, such as CI agents.
+ * The protocol is plain HTTP: the object of a module is downloaded by {@code GET <url>/<key>},
+ * and uploaded by {@code PUT <url>/<key>}, where the key is the content hash of the module.
+ * Both directions carry the SHA-256 hash of the object in a header, and the uploads are authorized by a token.
+ * <br>
+ * The remote cache fails open: once the server cannot be reached, the cache is disabled for the rest
+ * of the session, and the modules are compiled locally instead.
+ */
+public class RemoteCache {
+    /**
+     * The header, that holds the hexadecimal SHA-256 hash of the transferred object.
+     */
+    public static final String CHECKSUM_HEADER = "X-Void-Checksum";
+
+    /**
+     * The maximum time to wait for the server to respond.
+     */
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The base address of the cache server.
+     */
+    private final String url;
+
+    /**
+     * The token, that authorizes the uploads, or null if the objects are only downloaded.
+     */
+    @Nullable
+    private final String token;
+
+    /**
+     * The HTTP client, that is shared by the worker threads.
+     */
+    private final HttpClient client = HttpClient
+        .newBuilder()
+        .connectTimeout(TIMEOUT)
+        .build();
+
+    /**
+     * Indicate, whether the server has been reachable so far.
+     */
+    private volatile boolean available = true;
+
+    /**
+     * Indicate, whether the server has accepted the uploads so far.
+     */
+    private volatile boolean uploading = true;
+
+    public RemoteCache(String url, @Nullable String token) {
+        this.url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.token = token;
+        uploading = token != null;
+    }
+
+    /**
+     * Download the object of the specified key to the target file.
+     * @param key the cache key of the module
+     * @param objectFile the output object file
+     * @return true if the object has been found in the remote cache
+     */
+    public boolean fetch(String key, File objectFile) {
+        if (!available)
+            return false;
+
+        File temp = new File(objectFile.getParentFile(), objectFile.getName() + ".download");
+        try {
+            HttpRequest request = HttpRequest
+                .newBuilder(URI.create(url + "/" + key))
+                .timeout(TIMEOUT)
+                .GET()
+                .build();
+            HttpResponse<Path> response = client.send(request, HttpResponse.BodyHandlers.ofFile(temp.toPath()));
+            if (response.statusCode() != 200) {
+                temp.delete();
+                return false;
+            }
+
+            // the object is compiled locally, if it does not match the hash, that it was stored with
+            String checksum = response.headers().firstValue(CHECKSUM_HEADER).orElse(null);
+            if (checksum == null || !checksum.equals(ObjectCache.getChecksum(temp))) {
+                temp.delete();
+                return false;
+            }
+
+            // the object file is replaced at once, so that a failed download does not leave a partial object behind
+            Files.move(temp.toPath(), objectFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            temp.delete();
+            disable(e);
+            return false;
+        } catch (InterruptedException e) {
+            temp.delete();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Upload the compiled object of the specified key to the remote cache.
+     * @param key the cache key of the module
+     * @param objectFile the compiled object file
+     */
+    public void store(String key, File objectFile) {
+        if (!available || !uploading || !objectFile.isFile())
+            return;
+
+        try {
+            HttpRequest request = HttpRequest
+                .newBuilder(URI.create(url + "/" + key))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header(CHECKSUM_HEADER, ObjectCache.getChecksum(objectFile))
+                .PUT(HttpRequest.BodyPublishers.ofFile(objectFile.toPath()))
+                .build();
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            // the objects are still downloaded, if the server does not accept the uploads of this client
+            if (status == 401 || status == 403)
+                rejectUploads(status);
+            else if (status / 100 != 2)
+                reportUpload(key, status);
+        } catch (IOException | IllegalArgumentException e) {
+            disable(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop uploading to the remote cache for the rest of the session, as the server rejects the token.
+     * @param status the status code of the rejected upload
+     */
+    private void rejectUploads(int status) {
+        if (!uploading)
+            return;
+        uploading = false;
+
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[Cache]: " +
+            ConsoleFormat.WHITE + "remote cache " + url + " rejected the upload (status " + status + "), " +
+            "the objects will not be uploaded" +
+            ConsoleFormat.DEFAULT
+        );
+    }
+
+    /**
+     * Report an upload, that the server has failed to store.
+     * @param key the cache key of the module
+     * @param status the status code of the failed upload
+     */
+    private void reportUpload(String key, int status) {
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[Cache]: " +
+            ConsoleFormat.WHITE + "remote cache " + url + " failed to store " + key + " (status " + status + ")" +
+            ConsoleFormat.DEFAULT
+        );
+    }
+
+    /**
+     * Stop using the remote cache for the rest of the session, as the server is not reachable.
+     * @param error the error of the failed request
+     */
+    private void disable(Exception error) {
+        if (!available)
+            return;
+        available = false;
+
+        System.err.println(
+            ConsoleFormat.RED + "" + ConsoleFormat.BOLD + "[Cache]: " +
+            ConsoleFormat.WHITE + "remote cache " + url + " is not available, compiling locally: " + error +
+            ConsoleFormat.DEFAULT
+        );
+    }
+}
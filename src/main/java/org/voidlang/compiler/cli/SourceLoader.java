@@ -0,0 +1,95 @@
+package org.voidlang.compiler.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents a utility that loads the content of a source file into a character buffer, that the tokenizer
+ * consumes directly. The file is read in a single call, and it is decoded from UTF-8 only once,
+ * without building the content line by line.
+ * <br>
+ * The line separators are normalized to {@code \n} in place, and the content is terminated by a line separator,
+ * so that the line numbers of the tokens are the same for any line ending convention.
+ */
+public class SourceLoader {
+    /**
+     * The byte order mark, that some editors put at the beginning of UTF-8 files.
+     */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * Load the content of the specified source file.
+     * @param file the source file to load
+     * @return the content of the file, from position 0 up to the limit of the buffer
+     * @throws IOException if the file could not be read
+     */
+    public static CharBuffer load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE - 1)
+                throw new IOException("Source file " + file + " is too large");
+
+            // the file is not memory-mapped, as a mapped file cannot be replaced on Windows,
+            // until the mapping is garbage collected, that would block the editors in watch mode
+            ByteBuffer bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0);
+            bytes.flip();
+
+            return decode(bytes);
+        }
+    }
+
+    /**
+     * Decode the UTF-8 content of a source file.
+     * @param bytes the raw content of the file
+     * @return the decoded content of the file, with normalized line separators
+     */
+    public static CharBuffer decode(ByteBuffer bytes) {
+        // UTF-8 never decodes to more characters than bytes, and one more character is kept for the last separator
+        char[] data = new char[bytes.remaining() + 1];
+        CharBuffer chars = CharBuffer.wrap(data);
+
+        CharsetDecoder decoder = StandardCharsets.UTF_8
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        decoder.decode(bytes, chars, true);
+        decoder.flush(chars);
+
+        int length = normalize(data, chars.position());
+        return CharBuffer.wrap(data, 0, length);
+    }
+
+    /**
+     * Replace the {@code \r\n} and {@code \r} line separators with {@code \n} in place.
+     * @param data the decoded characters, that has space for one more character
+     * @param length the number of the decoded characters
+     * @return the number of characters after normalization
+     */
+    private static int normalize(char[] data, int length) {
+        int read = length > 0 && data[0] == BYTE_ORDER_MARK ? 1 : 0;
+        int write = 0;
+
+        while (read < length) {
+            char c = data[read++];
+            if (c == '\r') {
+                c = '\n';
+                if (read < length && data[read] == '\n')
+                    read++;
+            }
+            data[write++] = c;
+        }
+
+        // the tokenizer expects each line, including the last one, to be terminated
+        if (write > 0 && data[write - 1] != '\n')
+            data[write++] = '\n';
+        return write;
+    }
+}
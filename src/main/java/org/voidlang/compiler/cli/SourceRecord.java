@@ -0,0 +1,39 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Represents the cached build information of a source file, that is used to decide,
+ * whether the package of the file has to be recompiled.
+ */
+@RequiredArgsConstructor
+@Getter
+public class SourceRecord {
+    /**
+     * The checksum of the source file content.
+     */
+    private final String checksum;
+
+    /**
+     * The name of the root package that the source file is declared in.
+     */
+    private final String packageName;
+
+    /**
+     * The names of the root packages that the source file imports or uses.
+     */
+    private final Set<String> dependencies;
+
+    /**
+     * The size of the source file in bytes, when its checksum was calculated.
+     */
+    private final long size;
+
+    /**
+     * The last modification time of the source file, when its checksum was calculated.
+     */
+    private final long lastModified;
+}
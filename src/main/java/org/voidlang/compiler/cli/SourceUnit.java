@@ -0,0 +1,109 @@
+package org.voidlang.compiler.cli;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+import org.voidlang.compiler.builder.Package;
+import org.voidlang.compiler.node.Node;
+import org.voidlang.compiler.node.SyntaxTree;
+import org.voidlang.compiler.token.TokenStream;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Represents a source file that is being processed by the front-end of the compiler.
+ * The tokens and the parsed nodes of the file are held until they are merged into the application.
+ */
+@RequiredArgsConstructor
+@Getter
+public class SourceUnit {
+    /**
+     * The source file of the unit.
+     */
+    private final File file;
+
+    /**
+     * The name of the module, relative to the project source folder.
+     */
+    private final String moduleName;
+
+    /**
+     * The checksum of the source file content.
+     */
+    private final String checksum;
+
+    /**
+     * The size of the source file in bytes, before its checksum was calculated.
+     */
+    private final long size;
+
+    /**
+     * The last modification time of the source file, before its checksum was calculated.
+     */
+    private final long lastModified;
+
+    /**
+     * The record of the source file from the previous build, or null if the file has not been built yet.
+     */
+    @Nullable
+    private final SourceRecord record;
+
+    /**
+     * The transformed tokens of the source file, or null if the file is not parsed in this build.
+     */
+    @Setter
+    private TokenStream tokens;
+
+    /**
+     * The nested package names declared by the source file.
+     */
+    @Setter
+    private List<String> packageNames;
+
+    /**
+     * The package that the source file is declared in.
+     */
+    @Setter
+    private Package pkg;
+
+    /**
+     * The parsed top-level nodes of the source file, with the token ranges they have been parsed from.
+     */
+    @Setter
+    private SyntaxTree tree;
+
+    /**
+     * The syntax tree of the previous version of the source file, that the nodes outside the edit are reused from,
+     * or null if the file is parsed from scratch.
+     */
+    @Nullable
+    @Setter
+    private SyntaxTree previousTree;
+
+    /**
+     * Indicate, whether the source file is new, or it has been changed since the previous build.
+     * @return true if the cached record of the file is outdated
+     */
+    public boolean isChanged() {
+        return record == null || !record.getChecksum().equals(checksum);
+    }
+
+    /**
+     * Get the parsed nodes of the source file.
+     * @return the parsed nodes, or null if the file has not been parsed yet
+     */
+    public List<Node> getNodes() {
+        return tree != null ? tree.getNodes() : null;
+    }
+
+    /**
+     * Get the name of the root package, that the source file is declared in.
+     * @return the root package name
+     */
+    public String getPackageName() {
+        // unchanged files are not tokenized, unless their package has to be recompiled
+        return packageNames != null ? packageNames.get(0) : record.getPackageName();
+    }
+}
@@ -11,4 +11,14 @@ public class BuildInfo {
      * The target platform to compile to.
      */
     public String target;
+
+    /**
+     * Indicate, whether the modules of all the packages should be linked and optimized as a single module.
+     */
+    public boolean lto;
+
+    /**
+     * The optimization level of the generated code: 0, 1, 2, 3, s or z.
+     */
+    public String optimization;
 }
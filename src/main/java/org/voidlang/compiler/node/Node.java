@@ -14,6 +14,7 @@ import org.voidlang.llvm.element.IRValue;
 import org.voidlang.compiler.node.type.core.Type;
 
 import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents an instruction node that is parsed from raw tokens.
@@ -27,6 +28,11 @@ public abstract class Node {
      */
     protected static final Prettier prettier = new Prettier();
 
+    /**
+     * The number of nodes, that have been created since the compiler has started.
+     */
+    private static final LongAdder createdNodes = new LongAdder();
+
     /**
      * The type of the node.
      */
@@ -43,6 +49,15 @@ public abstract class Node {
         if (info == null)
             throw new IllegalStateException(getClass().getSimpleName() + " does not have @NodeInfo");
         nodeType = info.type();
+        createdNodes.increment();
+    }
+
+    /**
+     * Get the number of nodes, that have been created since the compiler has started.
+     * @return the number of created nodes
+     */
+    public static long getCreatedNodes() {
+        return createdNodes.sum();
     }
 
     /**
@@ -9,6 +9,7 @@ public enum NodeType {
     MODIFIER_BLOCK,
     METHOD,
     IMPORTED_METHOD,
+    CACHED_METHOD,
     FIELD,
     MULTI_FIELD,
     PACKAGE,
@@ -45,7 +45,9 @@ import org.voidlang.compiler.node.type.named.NamedScalarType;
 import org.voidlang.compiler.node.type.named.NamedType;
 import org.voidlang.compiler.node.type.named.NamedTypeGroup;
 import org.voidlang.compiler.node.type.parameter.LambdaParameter;
+import org.voidlang.compiler.token.Symbol;
 import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenStream;
 import org.voidlang.compiler.token.TokenType;
 import org.voidlang.compiler.util.Prettier;
 
@@ -62,56 +64,165 @@ public class Parser {
     private final Package pkg;
 
     /**
-     * The list of the tokens to be parsed.
+     * The stream of the tokens to be parsed.
      */
-    private final List<Token> tokens;
+    private final TokenStream tokens;
 
     /**
      * The index of the currently parsed token.
      */
     private int cursor;
 
+    /**
+     * The index of the furthest token, that has been inspected while parsing the current node.
+     */
+    private int horizon;
+
     /**
      * Initialize the token parser.
      * @param pkg node parser package
      * @param tokens list of tokens to be parsed
      */
     public Parser(Package pkg, List<Token> tokens) {
+        this(pkg, TokenStream.of(tokens));
+    }
+
+    /**
+     * Initialize the token parser.
+     * @param pkg node parser package
+     * @param tokens stream of tokens to be parsed
+     */
+    public Parser(Package pkg, TokenStream tokens) {
         this.pkg = pkg;
         this.tokens = tokens;
     }
 
+    /**
+     * Parse all the top-level nodes of the tokens, until the end of the file or an error is reached.
+     * @return the syntax tree of the tokens
+     */
+    public SyntaxTree parse() {
+        List<Node> nodes = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        List<Integer> horizons = new ArrayList<>();
+
+        Node node;
+        do {
+            horizon = cursor;
+            nodes.add(node = next());
+            ends.add(cursor);
+            horizons.add(horizon);
+        } while (node.hasNext());
+
+        return createTree(nodes, ends, horizons);
+    }
+
+    /**
+     * Parse the top-level nodes of the tokens, that are an edited version of the tokens of the previous tree.
+     * <br>
+     * The nodes before the edit are reused, if they have not inspected any of the edited tokens.
+     * The tokens are parsed again from the end of the last reused node, until the parser arrives at
+     * the beginning of a previous node after the edit, from which the rest of the previous nodes are reused.
+     * The nodes after the edit only consist of the reused trailing tokens, therefore they would be parsed
+     * the same way.
+     * @param previous the syntax tree of the previous version of the tokens
+     * @return the syntax tree of the tokens
+     */
+    public SyntaxTree parse(SyntaxTree previous) {
+        // the nodes of a failed parse are not reused, as the error might be resolved by the edit
+        if (previous.hasError())
+            return parse();
+
+        List<Node> nodes = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        List<Integer> horizons = new ArrayList<>();
+
+        // reuse the leading nodes, that have not looked into the edited region
+        int prefix = tokens.getReusedPrefix();
+        int count = previous.getNodes().size();
+        int reused = 0;
+        while (reused < count && previous.getHorizons()[reused] < prefix
+               && previous.getNodes().get(reused).hasNext()) {
+            nodes.add(previous.getNodes().get(reused));
+            ends.add(previous.getEnds()[reused]);
+            horizons.add(previous.getHorizons()[reused]);
+            reused++;
+        }
+        cursor = previous.getBegin(reused);
+
+        // the trailing nodes are reused, once the parser is synchronized with one of them
+        int suffix = previous.getSize() - tokens.getReusedSuffix();
+        int shift = tokens.size() - previous.getSize();
+        Node node;
+        do {
+            for (int i = reused; i < count; i++) {
+                int begin = previous.getBegin(i);
+                if (begin < suffix || begin + shift != cursor)
+                    continue;
+                for (int j = i; j < count; j++) {
+                    nodes.add(previous.getNodes().get(j));
+                    ends.add(previous.getEnds()[j] + shift);
+                    horizons.add(previous.getHorizons()[j] + shift);
+                }
+                return createTree(nodes, ends, horizons);
+            }
+
+            horizon = cursor;
+            nodes.add(node = next());
+            ends.add(cursor);
+            horizons.add(horizon);
+        } while (node.hasNext());
+
+        return createTree(nodes, ends, horizons);
+    }
+
+    /**
+     * Create a syntax tree of the parsed top-level nodes.
+     * @param nodes the parsed nodes
+     * @param ends the token index after each node
+     * @param horizons the furthest inspected token index of each node
+     * @return a new syntax tree
+     */
+    private SyntaxTree createTree(List<Node> nodes, List<Integer> ends, List<Integer> horizons) {
+        return new SyntaxTree(
+            nodes,
+            ends.stream().mapToInt(Integer::intValue).toArray(),
+            horizons.stream().mapToInt(Integer::intValue).toArray(),
+            tokens.size()
+        );
+    }
+
     /**
      * Parse the next instruction node.
      * @return new instruction node
      */
     public Node next() {
         // handle end of file
-        if (peek().is(TokenType.FINISH))
+        if (is(TokenType.FINISH))
             return new Finish();
 
         // handle package declaration
-        else if (peek().is(TokenType.INFO, "package"))
+        else if (is(TokenType.INFO, Symbol.PACKAGE))
             return nextPackage();
 
         // handle package import
-        else if (peek().is(TokenType.INFO, "import"))
+        else if (is(TokenType.INFO, Symbol.IMPORT))
             return nextImport();
 
         // handle using statement
-        else if (peek().is(TokenType.INFO, "using"))
+        else if (is(TokenType.INFO, Symbol.USING))
             return nextUsing();
 
         // handle modifier list or block declaration
-        else if (peek().is(TokenType.MODIFIER))
+        else if (is(TokenType.MODIFIER))
             return nextModifiers();
 
         // handle method or type declaration
-        else if (peek().is(TokenType.TYPE, TokenType.IDENTIFIER, TokenType.OPEN, TokenType.EXPRESSION))
+        else if (is(TokenType.TYPE, TokenType.IDENTIFIER, TokenType.OPEN, TokenType.EXPRESSION))
             return nextTypeOrMethod();
 
         // handle method declaration with a lambda type that doesn't have an explicit return type
-        else if (peek().is(TokenType.OPERATOR, "|"))
+        else if (is(TokenType.OPERATOR, Symbol.PIPE))
             return nextMethod();
 
         // handle unexpected token
@@ -125,23 +236,23 @@ public class Parser {
      */
     public Node nextPackage() {
         // handle package declaration
-        get(TokenType.INFO, "package");
+        expect(TokenType.INFO, Symbol.PACKAGE);
 
         // get the name of the package
-        String name = get(TokenType.IDENTIFIER).getValue();
+        String name = getValue(TokenType.IDENTIFIER);
 
         List<String> names = new ArrayList<>();
         names.add(name);
 
-        while (!peek().is(TokenType.SEMICOLON)) {
-            get(TokenType.COLON);
-            get(TokenType.COLON);
+        while (!is(TokenType.SEMICOLON)) {
+            expect(TokenType.COLON);
+            expect(TokenType.COLON);
 
-            names.add(get(TokenType.IDENTIFIER).getValue());
+            names.add(getValue(TokenType.IDENTIFIER));
         }
 
         // ensure that the package is ended by a semicolon
-        get(TokenType.SEMICOLON);
+        expect(TokenType.SEMICOLON);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.BLUE + "package " + ConsoleFormat.GREEN + name);
@@ -155,12 +266,12 @@ public class Parser {
      */
     public Node nextImport() {
         // handle package import
-        get(TokenType.INFO, "import");
+        expect(TokenType.INFO, Symbol.IMPORT);
 
         ImportNode node = nextImportNode();
 
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         if (node.getName().equals("*"))
             throw new IllegalStateException("Wildcard import must not be the root of the import tree.");
@@ -174,43 +285,43 @@ public class Parser {
 
     private ImportNode nextImportNode() {
         String name;
-        if (peek().is(TokenType.OPERATOR, "*"))
+        if (is(TokenType.OPERATOR, Symbol.STAR))
             name = "*";
         else
-            name = get(TokenType.IDENTIFIER).getValue();
+            name = getValue(TokenType.IDENTIFIER);
 
         ImportNode node = new ImportNode(name);
 
-        if (!peek().is(TokenType.COLON))
+        if (!is(TokenType.COLON))
             return node;
 
-        get(TokenType.COLON);
-        get(TokenType.COLON);
+        expect(TokenType.COLON);
+        expect(TokenType.COLON);
 
-        if (peek().is(TokenType.IDENTIFIER)) {
+        if (is(TokenType.IDENTIFIER)) {
             node.addChild(nextImportNode());
             return node;
         }
 
         // do not continue parsing the import tree recursively, as the wildcard must be the top-level import
-        else if (peek().is(TokenType.OPERATOR, "*")) {
-            get();
+        else if (is(TokenType.OPERATOR, Symbol.STAR)) {
+            skip();
             node.addChild(new ImportNode("*"));
             return node;
         }
 
-        get(TokenType.BEGIN);
+        expect(TokenType.BEGIN);
 
-        while (!peek().is(TokenType.END)) {
+        while (!is(TokenType.END)) {
             node.addChild(nextImportNode());
 
-            if (peek(TokenType.COMMA, TokenType.END).is(TokenType.COMMA))
-                get();
+            if (peek(TokenType.COMMA, TokenType.END) == TokenType.COMMA)
+                skip();
             else
                 break;
         }
 
-        get(TokenType.END);
+        expect(TokenType.END);
 
         return node;
     }
@@ -221,12 +332,12 @@ public class Parser {
      */
     private Node nextUsing() {
         // handle package import
-        get(TokenType.INFO, "using");
+        expect(TokenType.INFO, Symbol.USING);
 
         ImportNode node = nextImportNode();
 
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         if (node.getName().equals("*"))
             throw new IllegalStateException("Wildcard using must not be the root of the using tree.");
@@ -243,12 +354,12 @@ public class Parser {
      */
     public Node nextModifiers() {
         List<String> modifiers = new ArrayList<>();
-        while (peek().is(TokenType.MODIFIER))
-            modifiers.add(get().getValue());
+        while (is(TokenType.MODIFIER))
+            modifiers.add(getValue());
         // handle modifier block
-        if (peek().is(TokenType.COLON)) {
+        if (is(TokenType.COLON)) {
             // skip the ':' symbol
-            get();
+            skip();
             if (Prettier.isEnabled())
                 System.out.println(String.join(" ", modifiers) + ": ");
             return new ModifierBlock(modifiers);
@@ -265,16 +376,16 @@ public class Parser {
      */
     public Node nextTypeOrMethod() {
         // handle modifier list or block declaration
-        if (peek().is(TokenType.MODIFIER))
+        if (is(TokenType.MODIFIER))
             return nextModifiers();
             // handle package method declaration
-        else if (peek().is(TokenType.TYPE) || peek().is(TokenType.IDENTIFIER))
+        else if (is(TokenType.TYPE) || is(TokenType.IDENTIFIER))
             return nextMethod();
             // handle multi-return method
-        else if (peek().is(TokenType.OPEN))
+        else if (is(TokenType.OPEN))
             return nextMethod();
             // handle package type declaration
-        else if (peek().is(TokenType.EXPRESSION))
+        else if (is(TokenType.EXPRESSION))
             return nextTypeDeclaration();
         // handle unexpected token
         Token error = peek();
@@ -290,12 +401,12 @@ public class Parser {
         // get the kind of the type
         // class MyClass {
         // ^^^^^ the expression indicates the kind of the type
-        String kind = get(TokenType.EXPRESSION).getValue();
+        String kind = getValue(TokenType.EXPRESSION);
 
         // get the name of the type
         // class Test {
         //       ^^^^ the identifier indicates the name of the type
-        String name = get(TokenType.IDENTIFIER).getValue();
+        String name = getValue(TokenType.IDENTIFIER);
 
         // handle type generic declaration
         // struct MyGenericStruct<T, U> {
@@ -338,7 +449,7 @@ public class Parser {
      */
     private Node nextClass(String name, GenericTypeList generics) {
         // handle type body begin
-        get(TokenType.BEGIN);
+        expect(TokenType.BEGIN);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.LIGHT_GRAY + " {");
@@ -346,7 +457,7 @@ public class Parser {
         // parse the body of the class
         Node.prettier.enterScope();
         List<Node> body = new ArrayList<>();
-        while (!peek().is(TokenType.END)) {
+        while (!is(TokenType.END)) {
             Node node = nextContent();
             if (!node.hasNext())
                 return node;
@@ -355,21 +466,21 @@ public class Parser {
         Node.prettier.exitScope();
 
         // handle type body end
-        get(TokenType.END);
+        expect(TokenType.END);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.LIGHT_GRAY + "}");
 
         // handle auto-inserted semicolon at the end or the body
-        if (peek().is(TokenType.SEMICOLON, "auto"))
-            get();
+        if (is(TokenType.SEMICOLON, Symbol.AUTO))
+            skip();
 
         return new Class(name, generics, body);
     }
 
     private Node nextStruct(String name, GenericTypeList generics) {
         // handle type body begin
-        get(TokenType.BEGIN);
+        expect(TokenType.BEGIN);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.LIGHT_GRAY + " {");
@@ -377,7 +488,7 @@ public class Parser {
         // parse the body of the class
         Node.prettier.enterScope();
         List<Node> body = new ArrayList<>();
-        while (!peek().is(TokenType.END)) {
+        while (!is(TokenType.END)) {
             Node node = nextContent();
             if (!node.hasNext())
                 return node;
@@ -386,14 +497,14 @@ public class Parser {
         Node.prettier.exitScope();
 
         // handle type body end
-        get(TokenType.END);
+        expect(TokenType.END);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.LIGHT_GRAY + "}");
 
         // handle auto-inserted semicolon at the end or the body
-        if (peek().is(TokenType.SEMICOLON, "auto"))
-            get();
+        if (is(TokenType.SEMICOLON, Symbol.AUTO))
+            skip();
 
         return new Struct(name, generics, body);
     }
@@ -404,22 +515,22 @@ public class Parser {
      */
     private Node nextContent() {
         // handle nested type declaration
-        if (peek().is(TokenType.EXPRESSION))
+        if (is(TokenType.EXPRESSION))
             return nextTypeDeclaration();
 
         // handle scalar type method or field declaration
-        else if (peek().is(TokenType.TYPE, TokenType.IDENTIFIER) && at(cursor + 1).is(TokenType.IDENTIFIER)) {
-            if (at(cursor + 2).is(TokenType.OPEN))
+        else if (is(TokenType.TYPE, TokenType.IDENTIFIER) && is(cursor + 1, TokenType.IDENTIFIER)) {
+            if (is(cursor + 2, TokenType.OPEN))
                 return nextMethod();
             return nextField();
         }
 
         // handle referenced scalar type method or field declaration
         else if (
-            peek().is(TokenType.TYPE, "ref") && at(cursor + 1).is(TokenType.TYPE, TokenType.IDENTIFIER) &&
-            at(cursor + 2).is(TokenType.IDENTIFIER)
+            is(TokenType.TYPE, Symbol.REF) && is(cursor + 1, TokenType.TYPE, TokenType.IDENTIFIER) &&
+            is(cursor + 2, TokenType.IDENTIFIER)
         ) {
-            if (at(cursor + 3).is(TokenType.OPEN))
+            if (is(cursor + 3, TokenType.OPEN))
                 return nextMethod();
             return nextField();
         }
@@ -454,7 +565,7 @@ public class Parser {
 
     private NamedType nextNamedTypeInternal(boolean expectName, boolean expectLambda) {
         // handle type group
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             return nextNamedTypeGroup(expectLambda);
         // handle scalar type
         return nextNamedScalarType(expectName, expectLambda);
@@ -472,21 +583,21 @@ public class Parser {
     private NamedTypeGroup nextNamedTypeGroup(boolean expectLambda) {
         List<NamedType> members = new ArrayList<>();
         // skip the '(' symbol
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
 
-        while (!peek().is(TokenType.CLOSE)) {
+        while (!is(TokenType.CLOSE)) {
             // parse the next member of the group
             members.add(nextNamedTypeNested(expectLambda));
             // continue parsing if there are more members expected
-            if (peek(TokenType.COMMA, TokenType.CLOSE).is(TokenType.COMMA))
-                get();
+            if (peek(TokenType.COMMA, TokenType.CLOSE) == TokenType.COMMA)
+                skip();
             // stop parsing if the group has been closed
             else
                 break;
         }
 
         // skip the ')' symbol
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
 
         // TODO parse referencing
         return new NamedTypeGroup(Referencing.none(), members);
@@ -494,23 +605,23 @@ public class Parser {
 
     private Type nextLambdaType(Type returnType) {
         // skip the '|' symbol
-        get(TokenType.OPERATOR, "|");
+        expect(TokenType.OPERATOR, Symbol.PIPE);
         // parse the parameter list of the lambda
         List<LambdaParameter> parameters = new ArrayList<>();
-        while (!peek().is(TokenType.OPERATOR, "|")) {
+        while (!is(TokenType.OPERATOR, Symbol.PIPE)) {
             // parse the next lambda parameter type
             Type type = nextNamedType(false);
             // parse the variadic arguments specifier of the type
             boolean variadic = nextVarargs();
 
             // check if the lambda parameter does not have a type specified
-            if (peek().is(TokenType.COMMA) || peek().is(TokenType.OPERATOR, "|")) {
+            if (is(TokenType.COMMA) || is(TokenType.OPERATOR, Symbol.PIPE)) {
                 // register an unnamed lambda parameter
                 // TODO parse referencing
                 parameters.add(new LambdaParameter(Referencing.none(), type, variadic, null, false));
                 // skip the ',' symbol
-                if (peek().is(TokenType.COMMA))
-                    get();
+                if (is(TokenType.COMMA))
+                    skip();
                 // continue handling parameters, or exit because of the condition
                 continue;
             }
@@ -522,14 +633,14 @@ public class Parser {
             parameters.add(new LambdaParameter(Referencing.none(), type, variadic, name, true));
 
             // check if there are more parameters to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // lambda parameter declaration ended, exit the loop
             else
                 break;
         }
         // skip the '|' symbol
-        get(TokenType.OPERATOR, "|");
+        expect(TokenType.OPERATOR, Symbol.PIPE);
         // TODO parse referencing
         return new LambdaType(Referencing.none(), returnType, parameters);
     }
@@ -539,8 +650,8 @@ public class Parser {
         Type type = nextScalarType(expectLambda);
         // check if a name is declared for the type
         String name = "";
-        if (expectName && peek().is(TokenType.IDENTIFIER))
-            name = get().getValue();
+        if (expectName && is(TokenType.IDENTIFIER))
+            name = getValue();
         // handle unnamed scalar type
         // TODO parse referencing
         return new NamedScalarType(Referencing.none(), type, name, !name.isEmpty());
@@ -551,8 +662,8 @@ public class Parser {
     }
 
     private boolean nextMutable() {
-        if (peek().is(TokenType.TYPE, "mut")) {
-            get();
+        if (is(TokenType.TYPE, Symbol.MUT)) {
+            skip();
             return true;
         }
         return false;
@@ -560,7 +671,7 @@ public class Parser {
 
     private Type nextType(boolean expectLambda) {
         // handle type group
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             return nextTypeGroup();
         // handle scalar type
         return nextScalarType(expectLambda);
@@ -569,22 +680,22 @@ public class Parser {
     private CompoundType nextTypeGroup() {
         List<Type> members = new ArrayList<>();
         // skip the '(' symbol
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
 
-        while (!peek().is(TokenType.CLOSE)) {
+        while (!is(TokenType.CLOSE)) {
             // parse the next member of the group
             Type member = nextType();
             members.add(member);
             // continue parsing if there are more members expected
-            if (peek(TokenType.COMMA, TokenType.CLOSE).is(TokenType.COMMA))
-                get();
+            if (peek(TokenType.COMMA, TokenType.CLOSE) == TokenType.COMMA)
+                skip();
                 // stop parsing if the group has been closed
             else
                 break;
         }
 
         // skip the ')' symbol
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
 
         // TODO parse referencing
         return new CompoundType(Referencing.none(), members);
@@ -592,7 +703,7 @@ public class Parser {
 
     private Type nextScalarType(boolean expectLambda) {
         // check for lambda type declaration without an explicit return type
-        if (peek().is(TokenType.OPERATOR, "|"))
+        if (is(TokenType.OPERATOR, Symbol.PIPE))
             return nextLambdaType(Type.primitive("void"));
 
         // parse the referencing of the type
@@ -627,7 +738,7 @@ public class Parser {
 
         // check if a lambda parameter list declaration is after the type
         // do not handle '|' if we are currently parsing a lambda
-        if (expectLambda && peek().is(TokenType.OPERATOR, "|"))
+        if (expectLambda && is(TokenType.OPERATOR, Symbol.PIPE))
             return nextLambdaType(type);
 
         // handle scalar type
@@ -640,42 +751,42 @@ public class Parser {
      */
     private boolean nextVarargs() {
         // check if the previous type wasn't variadic
-        if (!peek().is(TokenType.OPERATOR, "."))
+        if (!is(TokenType.OPERATOR, Symbol.DOT))
             return false;
         // skip the variadic type specifier
         for (int i = 0; i < 3; i++)
-            get(TokenType.OPERATOR, ".");
+            expect(TokenType.OPERATOR, Symbol.DOT);
         return true;
     }
 
     private Name nextName() {
         // handle compound name
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             return nextCompoundName();
         // handle scalar name
         return nextScalarName();
     }
 
     private Name nextScalarName() {
-        return new ScalarName(get(TokenType.IDENTIFIER).getValue());
+        return new ScalarName(getValue(TokenType.IDENTIFIER));
     }
 
     private Name nextCompoundName() {
         // skip the '(' symbol
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
         List<Name> members = new ArrayList<>();
-        while (!peek().is(TokenType.CLOSE)) {
+        while (!is(TokenType.CLOSE)) {
             // parse the next member of the group
             members.add(nextName());
             // continue parsing if there are more members expected
-            if (peek(TokenType.COMMA, TokenType.CLOSE).is(TokenType.COMMA))
-                get();
+            if (peek(TokenType.COMMA, TokenType.CLOSE) == TokenType.COMMA)
+                skip();
             // stop parsing if the group has been closed
             else
                 break;
         }
         // skip the ')' symbol
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
         return new CompoundName(members);
     }
 
@@ -689,33 +800,33 @@ public class Parser {
     private GenericTypeList nextGenericTypes() {
         List<GenericType> types = new ArrayList<>();
         // handle no generic type declaration
-        if (!peek().is(TokenType.OPERATOR, "<"))
+        if (!is(TokenType.OPERATOR, Symbol.LESS))
             return new GenericTypeList(types, false);
         // skip the '<' symbol
-        get();
-        while (!peek().is(TokenType.OPERATOR, ">")) {
+        skip();
+        while (!is(TokenType.OPERATOR, Symbol.GREATER)) {
             // parse the next generic type
             types.add(nextGenericType());
             // check if there are more generic types to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // generic type declaration ended, exit loop
             else
                 break;
         }
         // skip the '>' symbol
-        get(TokenType.OPERATOR, ">");
+        expect(TokenType.OPERATOR, Symbol.GREATER);
         return new GenericTypeList(types ,true);
     }
 
     private GenericType nextGenericType() {
         // get the type name of the generic type
-        String name = get(TokenType.IDENTIFIER).getValue();
+        String name = getValue(TokenType.IDENTIFIER);
         // return if the generic type does not have a default value
-        if (!peek().is(TokenType.OPERATOR, "="))
+        if (!is(TokenType.OPERATOR, Symbol.ASSIGN))
             return new GenericType(name, null);
         // skip the '=' symbol
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
         // get the default value of the generic type
         return new GenericType(name, nextNamedType());
     }
@@ -732,26 +843,26 @@ public class Parser {
         List<GenericArgument> arguments = new ArrayList<>();
 
         // check if no generic arguments were given
-        if (!peek().is(TokenType.OPERATOR, "<"))
+        if (!is(TokenType.OPERATOR, Symbol.LESS))
             return new GenericArgumentList(arguments, false);
 
         // skip the '<' symbol
-        get();
+        skip();
 
         // handle generic arguments
-        while (!peek().is(TokenType.OPERATOR, ">")) {
+        while (!is(TokenType.OPERATOR, Symbol.GREATER)) {
             // parse the next inner generic argument
             arguments.add(nextGenericArgument());
             // check if there are more generic arguments to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
                 // not expecting more, exit loop
             else
                 break;
         }
 
         // skip the '>' symbol
-        get(TokenType.OPERATOR, ">");
+        expect(TokenType.OPERATOR, Symbol.GREATER);
         return new GenericArgumentList(arguments, true);
     }
 
@@ -761,23 +872,23 @@ public class Parser {
         Type type = nextType();
         // check if the generic argument does not have inner generic arguments
         List<GenericArgument> members = new ArrayList<>();
-        if (!peek().is(TokenType.OPERATOR, "<"))
+        if (!is(TokenType.OPERATOR, Symbol.LESS))
             return new GenericArgument(type, members, false);
         // skip the '<' symbol
-        get();
+        skip();
         // handle generic argument inner arguments
-        while (!peek().is(TokenType.OPERATOR, ">")) {
+        while (!is(TokenType.OPERATOR, Symbol.GREATER)) {
             // parse the next inner generic argument
             members.add(nextGenericArgument());
             // check if there are more inner generic arguments to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // not expecting more, exit loop
             else
                 break;
         }
         // skip the '>' symbol
-        get(TokenType.OPERATOR, ">");
+        expect(TokenType.OPERATOR, Symbol.GREATER);
         return new GenericArgument(type, members, true);
     }
 
@@ -804,9 +915,9 @@ public class Parser {
             return new QualifiedName(tokens);
 
         // check if there are more tokens to be parsed
-        while (peek().is(TokenType.OPERATOR, ".")) {
+        while (is(TokenType.OPERATOR, Symbol.DOT)) {
             // skip the '.' symbol
-            get();
+            skip();
             // parse the next token type
             Token token = get(
                 TokenType.IDENTIFIER,
@@ -815,7 +926,7 @@ public class Parser {
             );
             tokens.add(token);
             // exit the loop if there aren't any type tokens left
-            if (!peek().is(TokenType.OPERATOR, "."))
+            if (!is(TokenType.OPERATOR, Symbol.DOT))
                 break;
         }
 
@@ -837,16 +948,16 @@ public class Parser {
         //     ^^^^^          ^^^^^^^^^^^  array size may be explicitly declared with an integer
         //                                 or an identifier referring to a constant
         List<Dimension> dimensions = new ArrayList<>();
-        while (peek().is(TokenType.START)) {
+        while (is(TokenType.START)) {
             // skip the '[' symbol
-            get();
+            skip();
             // handle explicitly declared array dimension size
             Token size = Token.of(TokenType.NONE);
-            if (peek().is(TokenType.INTEGER, TokenType.IDENTIFIER))
+            if (is(TokenType.INTEGER, TokenType.IDENTIFIER))
                 size = get();
             // float[] getVectorElements()
             //       ^ a closing square bracket must be placed right after an open square bracket
-            get(TokenType.STOP);
+            expect(TokenType.STOP);
             dimensions.add(new Dimension(size, !size.is(TokenType.NONE)));
         }
         return new Array(dimensions);
@@ -858,25 +969,25 @@ public class Parser {
      */
     private Referencing nextReferencing() {
         // handle mutable type referencing
-        if (peek().is(TokenType.TYPE, "mut")) {
-            get();
+        if (is(TokenType.TYPE, Symbol.MUT)) {
+            skip();
             return Referencing.mutable();
         }
 
         // handle pointer referencing or dereferencing
-        else if (peek().is(TokenType.TYPE)) {
-            Token token = peek();
-            if (!token.val("ref", "deref"))
+        else if (is(TokenType.TYPE)) {
+            boolean reference = is(TokenType.TYPE, Symbol.REF);
+            if (!reference && !is(TokenType.TYPE, Symbol.DEREF))
                 return Referencing.none();
-            get();
+            skip();
 
             int dimensions = 1;
-            while (peek().is(TokenType.OPERATOR, "*")) {
-                get();
+            while (is(TokenType.OPERATOR, Symbol.STAR)) {
+                skip();
                 dimensions++;
             }
 
-            return token.val("ref")
+            return reference
                 ? Referencing.reference(dimensions)
                 : Referencing.dereference(dimensions);
         }
@@ -902,7 +1013,7 @@ public class Parser {
         // parse the name of the method
         // void greet(string person) { println($"Hi, {person}") }
         //      ^^^^^ the identifier after the type token(s) is the name of the method
-        String name = get(TokenType.IDENTIFIER).getValue();
+        String name = getValue(TokenType.IDENTIFIER);
 
         // parse the generic types of the method
         // in here we only define what identifiers we are willing to use as generic types inside the method
@@ -919,7 +1030,7 @@ public class Parser {
         // int multiply(int i, int j)
         //             ^ open parenthesis indicates, that the declaration of the parameter list has begun
         // skip the '(' symbol as it is already handled
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
 
         Node.prettier.indent();
         if (Prettier.isEnabled())
@@ -927,7 +1038,7 @@ public class Parser {
 
         // parse the method parameters
         List<MethodParameter> parameters = new ArrayList<>();
-        while (!peek().is(TokenType.CLOSE)) {
+        while (!is(TokenType.CLOSE)) {
             // parse the next parameter type
             Type paramType = nextType();
 
@@ -942,8 +1053,8 @@ public class Parser {
                 System.out.print(parameter);
 
             // check if there are more parameters to be parsed
-            if (peek().is(TokenType.COMMA)) {
-                get();
+            if (is(TokenType.COMMA)) {
+                skip();
                 if (Prettier.isEnabled())
                     System.out.print(ConsoleFormat.CYAN + ", ");
             }
@@ -952,27 +1063,26 @@ public class Parser {
                 break;
         }
 
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
 
         if (Prettier.isEnabled())
             System.out.println(ConsoleFormat.CYAN + ") " + ConsoleFormat.DARK_GRAY + "{");
 
-        Token peek = peek();
-        if (peek.is(TokenType.SEMICOLON)) {
+        if (is(TokenType.SEMICOLON)) {
             // skip the auto-inserted semicolon before the method body
-            get();
+            skip();
 
             // handle methods without an explicit body
             // TODO make sure these methods have an extern modifier
-            if (!peek().is(TokenType.BEGIN)) {
+            if (!is(TokenType.BEGIN)) {
                 Method method = new Method(type, name, parameters, new ArrayList<>());
                 method.setBodyLess(true);
                 return method;
             }
         }
 
-        if (peek().is(TokenType.SEMICOLON, "auto"))
-            get();
+        if (is(TokenType.SEMICOLON, Symbol.AUTO))
+            skip();
 
         // TODO handle direct body assigning to method
         //  int isFruit(Produce produce) = switch (produce) { BANANA|APPLE -> true; else -> false }
@@ -980,10 +1090,10 @@ public class Parser {
         //  int getName() => "John, Doe" | or ->, haven't decided yet
 
         // handle method body begin
-        get(TokenType.BEGIN);
+        expect(TokenType.BEGIN);
 
         List<Node> body = new ArrayList<>();
-        while (!peek().is(TokenType.END)) {
+        while (!is(TokenType.END)) {
             Node expression = nextExpression();
             if (!expression.hasNext())
                 break;
@@ -1006,11 +1116,11 @@ public class Parser {
             System.out.println(ConsoleFormat.DARK_GRAY + "}");
 
         // handle method body end
-        get(TokenType.END);
+        expect(TokenType.END);
 
         // skip the auto-inserted semicolon
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new Method(type, name, parameters, body);
     }
@@ -1020,11 +1130,11 @@ public class Parser {
         NamedType type = nextNamedType();
 
         // get the name of the field
-        String name = get(TokenType.IDENTIFIER).getValue();
+        String name = getValue(TokenType.IDENTIFIER);
 
         // handle field without an explicit default value
-        if (peek().is(TokenType.SEMICOLON)) {
-            get();
+        if (is(TokenType.SEMICOLON)) {
+            skip();
             Node.prettier.indent();
             if (Prettier.isEnabled()) {
                 System.out.print(type + " " + ConsoleFormat.BLUE + name);
@@ -1034,21 +1144,21 @@ public class Parser {
         }
 
         // handle multi-field declaration
-        else if (peek().is(TokenType.COMMA))
+        else if (is(TokenType.COMMA))
             return nextMultiField(type, name, null);
 
         // handle field value assignation
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
 
         // parse the value of the field
         Node value = nextExpression();
 
         // handle multi-field declaration
-        if (peek().is(TokenType.COMMA))
+        if (is(TokenType.COMMA))
             return nextMultiField(type, name, value);
 
         // skip the semicolon after the field declaration
-        get(TokenType.SEMICOLON);
+        expect(TokenType.SEMICOLON);
 
         Node.prettier.indent();
         if (Prettier.isEnabled()) {
@@ -1062,7 +1172,7 @@ public class Parser {
 
     private Node nextMultiField(Type type, String name, @Nullable Node value) {
         // skip the ',' symbol
-        get(TokenType.COMMA);
+        expect(TokenType.COMMA);
 
         Node.prettier.indent();
         System.out.println(type);
@@ -1085,15 +1195,15 @@ public class Parser {
 
         while (has(cursor)) {
             // parse the name of the field
-            String fieldName = get(TokenType.IDENTIFIER).getValue();
+            String fieldName = getValue(TokenType.IDENTIFIER);
 
             Node.prettier.indent();
             System.out.print(ConsoleFormat.BLUE + fieldName);
 
             // parse the value of the field
             Node fieldValue = null;
-            if (peek().is(TokenType.OPERATOR, "=")) {
-                get();
+            if (is(TokenType.OPERATOR, Symbol.ASSIGN)) {
+                skip();
                 fieldValue = nextExpression();
                 if (Prettier.isEnabled())
                     System.out.print(ConsoleFormat.CYAN + " = ");
@@ -1107,17 +1217,17 @@ public class Parser {
             values.put(fieldName, fieldValue);
 
             // check for more fields
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
 
             // check if the multi-field declaration has been ended
-            else if (peek().is(TokenType.SEMICOLON))
+            else if (is(TokenType.SEMICOLON))
                 break;
         }
 
         Node.prettier.exitScope();
 
-        get(TokenType.SEMICOLON);
+        expect(TokenType.SEMICOLON);
 
         return new MultiField(type, values);
     }
@@ -1127,50 +1237,50 @@ public class Parser {
     }
 
     private Value nextValue(boolean ignoreJoin) {
-        if (peek().is(TokenType.TYPE, "let"))
+        if (is(TokenType.TYPE, Symbol.LET))
             return nextImmutableLocalDeclaration();
 
-        else if (peek().is(TokenType.TYPE, "mut"))
+        else if (is(TokenType.TYPE, Symbol.MUT))
             return nextMutableLocalDeclaration();
 
-        else if (peek().is(TokenType.TYPE, "ref"))
+        else if (is(TokenType.TYPE, Symbol.REF))
             return nextReferenceLocalDeclaration();
 
         // handle variable assignation
-        if (peek().is(TokenType.IDENTIFIER) && at(cursor + 1).is(TokenType.OPERATOR, "=")
-                && !at(cursor + 2).is(TokenType.OPERATOR, "="))
+        if (is(TokenType.IDENTIFIER) && is(cursor + 1, TokenType.OPERATOR, Symbol.ASSIGN)
+                && !is(cursor + 2, TokenType.OPERATOR, Symbol.ASSIGN))
             return nextLocalAssignation();
 
         // handle node grouping
         // let a = (b + c) + d
         //         ^ the open parenthesis indicate, that the following nodes should be placed in a node group
-        else if (peek().is(TokenType.OPEN))
+        else if (is(TokenType.OPEN))
             return nextGroupOrTuple(ignoreJoin);
 
         // handle literal constant value
         // let name = "John Doe"
         //            ^^^^^^^^^^ the literal token indicates, that a value is expected
-        else if (peek().isLiteral())
+        else if (Token.isLiteral(typeAt(cursor)))
             return nextLiteral();
 
         // handle value referencing
-        else if (peek().is(TokenType.TYPE, "ref"))
+        else if (is(TokenType.TYPE, Symbol.REF))
             return nextReferencedQualifiedNameOrCall();
 
         // handle pointer dereferencing
-        else if (peek().is(TokenType.TYPE, "deref"))
+        else if (is(TokenType.TYPE, Symbol.DEREF))
             return nextDereferencedQualifiedNameOrCall();
 
         // handle qualified name or method call
-        else if (peek().is(TokenType.IDENTIFIER))
+        else if (is(TokenType.IDENTIFIER))
             return nextQualifiedNameOrCall();
 
         // handle new statement
-        else if (peek().is(TokenType.EXPRESSION, "new"))
+        else if (is(TokenType.EXPRESSION, Symbol.NEW))
             return nextNewType(ignoreJoin);
 
         // handle single-node operation
-        if (peek().is(TokenType.OPERATOR)) {
+        if (is(TokenType.OPERATOR)) {
             Operator operator = nextOperator();
             if (!isSideOperator(operator.getValue()))
                 throw new IllegalStateException("Expected side operator, but received " + operator);
@@ -1178,17 +1288,17 @@ public class Parser {
         }
 
         // handle array allocation
-        else if (peek().is(TokenType.START))
+        else if (is(TokenType.START))
             return nextArrayAllocation();
 
         // handle "sizeof" operator
-        else if (peek().is(TokenType.EXPRESSION, "sizeof")) {
-            get();
+        else if (is(TokenType.EXPRESSION, Symbol.SIZEOF)) {
+            skip();
 
-            if (peek().is(TokenType.OPEN)) {
-                get(TokenType.OPEN);
+            if (is(TokenType.OPEN)) {
+                expect(TokenType.OPEN);
                 Type type = nextType();
-                get(TokenType.CLOSE);
+                expect(TokenType.CLOSE);
                 return new SizeofType(type);
             }
 
@@ -1196,22 +1306,22 @@ public class Parser {
         }
 
         // handle "default" keyword
-        else if (peek().is(TokenType.MODIFIER, "default")) {
-            get();
-            get(TokenType.OPEN);
+        else if (is(TokenType.MODIFIER, Symbol.DEFAULT)) {
+            skip();
+            expect(TokenType.OPEN);
             Type type = nextType();
-            get(TokenType.CLOSE);
+            expect(TokenType.CLOSE);
             return new Default(type);
         }
 
         // TODO handle "typeof" operator
 
         // handle allocation on the heap using "malloc"
-        else if (peek().is(TokenType.EXPRESSION, "malloc"))
+        else if (is(TokenType.EXPRESSION, Symbol.MALLOC))
             return nextMalloc();
 
         // handle heap deallocation using "free"
-        else if (peek().is(TokenType.EXPRESSION, "free"))
+        else if (is(TokenType.EXPRESSION, Symbol.FREE))
             return nextFree();
 
         System.err.println(ConsoleFormat.RED + "Error (Value) " + peek());
@@ -1220,22 +1330,22 @@ public class Parser {
 
     private Value nextArrayAllocation() {
         // skip the '[' symbol
-        get(TokenType.START);
+        expect(TokenType.START);
 
         List<Value> values = new ArrayList<>();
-        while (!peek().is(TokenType.STOP)) {
+        while (!is(TokenType.STOP)) {
             // parse the next value
             values.add(nextValue());
             // check if there are more values to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // no more values expected, exit loop
             else
                 break;
         }
 
         // skip the ']' symbol
-        get(TokenType.STOP);
+        expect(TokenType.STOP);
 
         return new ArrayAllocate(values);
     }
@@ -1251,24 +1361,24 @@ public class Parser {
      */
     private Node nextExpression(boolean ignoreJoin) {
         // handle return statement
-        if (peek().is(TokenType.EXPRESSION, "return"))
+        if (is(TokenType.EXPRESSION, Symbol.RETURN))
             return nextReturnStatement();
 
         // handle if statement
-        else if (peek().is(TokenType.EXPRESSION, "if"))
+        else if (is(TokenType.EXPRESSION, Symbol.IF))
             return nextIfStatement();
 
         // handle while statement
-        else if (peek().is(TokenType.EXPRESSION, "while"))
+        else if (is(TokenType.EXPRESSION, Symbol.WHILE))
             return nextWhileStatement();
 
         // handle do while statement
-        else if (peek().is(TokenType.EXPRESSION, "do"))
+        else if (is(TokenType.EXPRESSION, Symbol.DO))
             return nextDoWhileStatement();
 
         // ignore unexpected auto-inserted semicolon
-        else if (peek().is(TokenType.SEMICOLON, "auto")) {
-            get();
+        else if (is(TokenType.SEMICOLON, Symbol.AUTO)) {
+            skip();
             return new Empty();
         }
 
@@ -1277,48 +1387,48 @@ public class Parser {
 
     private Value nextMalloc() {
         // skip the "malloc" keyword
-        get(TokenType.EXPRESSION, "malloc");
+        expect(TokenType.EXPRESSION, Symbol.MALLOC);
 
         // parse the name of the target type
         QualifiedName name = nextQualifiedName();
 
         Value node = new Malloc(name);
 
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return node;
     }
 
     private Value nextFree() {
-        get(TokenType.EXPRESSION, "free");
+        expect(TokenType.EXPRESSION, Symbol.FREE);
 
         // parse the name of the target type
         QualifiedName name = nextQualifiedName();
 
         Value node = new Free(name);
 
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return node;
     }
 
     private Value nextNewType(boolean ignoreJoin) {
         // skip the "new" keyword
-        get(TokenType.EXPRESSION, "new");
+        expect(TokenType.EXPRESSION, Symbol.NEW);
 
         // parse the name of the target type
         QualifiedName name = nextQualifiedName();
 
         // check if the "new" keyword has an argument list
         List<Value> arguments = new ArrayList<>();
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             arguments = nextArgumentList();
 
         // check if the "new" keyword has an initializator
         Initializator initializator = null;
-        if (peek().is(TokenType.BEGIN))
+        if (is(TokenType.BEGIN))
             initializator = nextInitializator();
 
         Value node = new New(name, arguments, initializator);
@@ -1330,8 +1440,8 @@ public class Parser {
         //                                 ^ the semicolon indicates, that the method call does not have any
         //                                   expressions after. unlike: let res = foo() + bar
         //                                   let test = new Foo(); <- method call value is terminated, not expecting anything afterward
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return node;
     }
@@ -1342,21 +1452,21 @@ public class Parser {
      */
     private Initializator nextInitializator() {
         // skip the '{' symbol
-        get(TokenType.BEGIN);
+        expect(TokenType.BEGIN);
 
         // parse the members of the initializator
         Map<String, Node> members = new LinkedHashMap<>();
-        while (!peek().is(TokenType.END)) {
+        while (!is(TokenType.END)) {
             // parse the key of the member
-            String key = get(TokenType.IDENTIFIER).getValue();
+            String key = getValue(TokenType.IDENTIFIER);
 
             // handle the separator ':' symbol of the key-value pair
-            get(TokenType.COLON);
+            expect(TokenType.COLON);
 
             // parse the value of the member
             Node value;
             // check if the value is also an initializer
-            if (peek().is(TokenType.BEGIN))
+            if (is(TokenType.BEGIN))
                 value = nextInitializator();
             // handle regular initializator value
             else
@@ -1367,19 +1477,19 @@ public class Parser {
             members.put(key, value);
 
             // handle auto-inserted semicolon
-            if (peek().is(TokenType.SEMICOLON, "auto"))
-                get();
+            if (is(TokenType.SEMICOLON, Symbol.AUTO))
+                skip();
 
             // check if there are more members yet to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // no more initializator members
             else
                 break;
         }
 
         // skip the '}' symbol
-        get(TokenType.END);
+        expect(TokenType.END);
 
         return new Initializator(members);
     }
@@ -1390,15 +1500,15 @@ public class Parser {
      */
     private Node nextWhileStatement() {
         // skip the "while" keyword
-        get(TokenType.EXPRESSION, "while");
+        expect(TokenType.EXPRESSION, Symbol.WHILE);
 
         // parse the condition of the while statement
         Node condition = nextCondition();
 
         // handle while statement without an explicit body
         // tbh, I'm not quite sure why is this allowed in so many languages, but I'll just support doing it
-        if (peek().is(TokenType.SEMICOLON)) {
-            get();
+        if (is(TokenType.SEMICOLON)) {
+            skip();
             return new While(condition, new ArrayList<>());
         }
 
@@ -1412,13 +1522,13 @@ public class Parser {
      */
     private Node nextDoWhileStatement() {
         // skip the "do" keyword
-        get(TokenType.EXPRESSION, "do");
+        expect(TokenType.EXPRESSION, Symbol.DO);
 
         // parse the body of the do-while statement
         List<Node> body = nextStatementBody();
 
         // skip the "while" keyword
-        get(TokenType.EXPRESSION, "while");
+        expect(TokenType.EXPRESSION, Symbol.WHILE);
 
         // parse the condition of the do-while statement
         Node condition = nextCondition();
@@ -1431,15 +1541,15 @@ public class Parser {
      */
     private Node nextIfStatement() {
         // skip the "if" keyword
-        get(TokenType.EXPRESSION, "if");
+        expect(TokenType.EXPRESSION, Symbol.IF);
 
         // parse the statement condition
         Node condition = nextCondition();
 
         // handle if statement without an explicit body
         // tbh, I'm not quite sure why is this allowed in so many languages, but I'll just support doing it
-        if (peek().is(TokenType.SEMICOLON)) {
-            get();
+        if (is(TokenType.SEMICOLON)) {
+            skip();
             return new If(condition, new ArrayList<>());
         }
 
@@ -1447,17 +1557,17 @@ public class Parser {
         If statement = new If(condition, nextStatementBody());
 
         // handle else or else if cases
-        if (peek().is(TokenType.EXPRESSION, "else")) {
+        if (is(TokenType.EXPRESSION, Symbol.ELSE)) {
             // handle else if cases
-            if (at(cursor + 1).is(TokenType.EXPRESSION, "if")) {
+            if (is(cursor + 1, TokenType.EXPRESSION, Symbol.IF)) {
                 // parse the next else if statements
-                while (peek().is(TokenType.EXPRESSION, "else")
-                        && at(cursor + 1).is(TokenType.EXPRESSION, "if"))
+                while (is(TokenType.EXPRESSION, Symbol.ELSE)
+                        && is(cursor + 1, TokenType.EXPRESSION, Symbol.IF))
                     statement.getElseIfs().add((ElseIf) nextElseIfStatement());
             }
             // check if an else case still follows
             // maybe there were else cases before
-            else if (peek().is(TokenType.EXPRESSION, "else"))
+            else if (is(TokenType.EXPRESSION, Symbol.ELSE))
                 statement.setElseCase((Else) nextElseStatement());
         }
 
@@ -1470,17 +1580,17 @@ public class Parser {
      */
     private Node nextElseIfStatement() {
         // skip the "else" keyword
-        get(TokenType.EXPRESSION, "else");
+        expect(TokenType.EXPRESSION, Symbol.ELSE);
         // skip the "if" keyword
-        get(TokenType.EXPRESSION, "if");
+        expect(TokenType.EXPRESSION, Symbol.IF);
 
         // parse the statement condition
         Node condition = nextCondition();
 
         // handle else if statement without an explicit body
         // tbh, I'm not quite sure why is this allowed in so many languages, but I'll just support doing it
-        if (peek().is(TokenType.SEMICOLON)) {
-            get();
+        if (is(TokenType.SEMICOLON)) {
+            skip();
             return new ElseIf(condition, new ArrayList<>());
         }
 
@@ -1495,7 +1605,7 @@ public class Parser {
      */
     Node nextElseStatement() {
         // skip the "else" keyword
-        get(TokenType.EXPRESSION, "else");
+        expect(TokenType.EXPRESSION, Symbol.ELSE);
 
         // parse the body of the else statement
         List<Node> body = nextStatementBody();
@@ -1513,12 +1623,12 @@ public class Parser {
         // check if multiple instructions should be assigned for the body
         // <expression> (condition) { /* do something */ }
         //                   ^ the open curly bracket indicates, that the statement body has multiple instructions inside
-        if (peek().is(TokenType.BEGIN)) {
-            get(TokenType.BEGIN);
+        if (is(TokenType.BEGIN)) {
+            expect(TokenType.BEGIN);
             // parse the while statement instructions
-            while (!peek().is(TokenType.END))
+            while (!is(TokenType.END))
                 body.add(nextExpression());
-            get(TokenType.END);
+            expect(TokenType.END);
         }
 
         // handle single-instruction statement
@@ -1530,8 +1640,8 @@ public class Parser {
 
         // skip the auto-inserted semicolon after  statement body
         // TODO might want to ignore manually inserted semicolon as well
-        if (peek().is(TokenType.SEMICOLON, "auto"))
-            get();
+        if (is(TokenType.SEMICOLON, Symbol.AUTO))
+            skip();
 
         return body;
     }
@@ -1542,18 +1652,18 @@ public class Parser {
      */
     private Node nextCondition() {
         // handle the beginning of the condition
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
 
         // parse the statement condition
         // TODO support conditional let, instanceof simplifier, pattern matching
         Node condition = nextExpression();
 
         // handle the ending of the condition
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
 
         // handle auto-inserted semicolon after condition
-        if (peek().is(TokenType.SEMICOLON, "auto")) // make sure to only handle auto-inserted semicolons here, as manually inserting
-            get();                                        // one would mean the statement has no statement body
+        if (is(TokenType.SEMICOLON, Symbol.AUTO)) // make sure to only handle auto-inserted semicolons here, as manually inserting
+            skip();                                        // one would mean the statement has no statement body
                                                           // <expression> (condition); outer();
                                                           //                         ^ statement terminated here
         return condition;
@@ -1567,7 +1677,7 @@ public class Parser {
         // let a = (b + c) + d
         //         ^ the open parenthesis indicate, that the following nodes should be placed in a node group
         // skip the '(' sign
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
 
         // parse the expression inside the group
         // let res = (1 + 2 + 3) / 4
@@ -1577,28 +1687,28 @@ public class Parser {
         // handle tuple declaration
         // let tup = (1, 2, 3)
         //             ^ the comma after the first member indicates, that this is a tuple declaration
-        if (peek().is(TokenType.COMMA)) {
+        if (is(TokenType.COMMA)) {
             // register the first member of the tuple
             List<Value> members = new ArrayList<>();
             members.add(value);
             // skip the ',' symbol
-            get();
+            skip();
 
             // parse the remaining members of the tuple
-            while (!peek().is(TokenType.CLOSE)) {
+            while (!is(TokenType.CLOSE)) {
                 // parse the next member of the tuple
                 members.add(nextValue());
 
                 // check if there are more members to be parsed
-                if (peek().is(TokenType.COMMA))
-                    get();
+                if (is(TokenType.COMMA))
+                    skip();
                 // no more elements to be parsed, exit loop
                 else
                     break;
             }
 
             // handle tuple ending
-            get(TokenType.CLOSE);
+            expect(TokenType.CLOSE);
 
             return new Tuple(members);
         }
@@ -1606,7 +1716,7 @@ public class Parser {
         // handle the group closing
         // let test = (7 - 1)
         //                  ^ the closing parenthesis indicate, that the declaration of node group has been ended
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
 
         // warp the value around a group node, therefore the operation tree transformer
         // will correctly parse precedence
@@ -1615,7 +1725,7 @@ public class Parser {
         // handle operation after a node group
         // (2 + 3) + 7
         //         ^ the operator indicates, that the method call should be grouped with the expression afterward
-        if (peek().is(TokenType.OPERATOR)) {
+        if (is(TokenType.OPERATOR)) {
             // parse the operator of the operation
             Operator operator = nextOperator();
             if (operator == Operator.QUESTION)
@@ -1628,8 +1738,8 @@ public class Parser {
         // handle type casting
         // let val = 100 as float
         //                 ^ the 'as' keyword indicates, that the expression has been terminated
-        else if (peek().is(TokenType.EXPRESSION, "as")) {
-            get();
+        else if (is(TokenType.EXPRESSION, Symbol.AS)) {
+            skip();
             return new Casting(group, nextType());
         }
 
@@ -1642,11 +1752,11 @@ public class Parser {
      */
     private Node nextReturnStatement() {
         // skip the "return" keyword
-        get(TokenType.EXPRESSION, "return");
+        expect(TokenType.EXPRESSION, Symbol.RETURN);
 
         // check if the return statement has no value to return
-        if (peek().is(TokenType.SEMICOLON)) {
-            get();
+        if (is(TokenType.SEMICOLON)) {
+            skip();
             return new Return(null);
         }
 
@@ -1654,8 +1764,8 @@ public class Parser {
         Value value = nextValue();
 
         // handle the semicolon after the return statement
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new Return(value);
     }
@@ -1666,17 +1776,17 @@ public class Parser {
      */
     private Value nextLocalAssignation() {
         // get the name of the local variable
-        String name = get().getValue();
+        String name = getValue();
 
         // skip the equals sign
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
 
         // parse the value of the local variable
         Value value = nextValue();
 
         // skip the semicolon after the declaration
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new LocalAssign(name, value);
     }
@@ -1684,7 +1794,7 @@ public class Parser {
     private Value nextSelection(Value condition) {
         Value ifCase = nextValue();
 
-        get(TokenType.COLON);
+        expect(TokenType.COLON);
 
         Value elseCase = nextValue();
 
@@ -1712,20 +1822,20 @@ public class Parser {
         // handle single value expression, in which case the local variable is initialized with a single value
         // let myVar = 100;
         //                ^ the (auto-inserted) semicolon indicates, initialized with a single value
-        if (peek().is(TokenType.SEMICOLON))
+        if (is(TokenType.SEMICOLON))
             return literal;
 
         // terminate the literal if an 'else' case of a one-liner 'if' statement is expected
         // let foo = x < 10 ? 1 + 2 : 12 / 6
         //                         ^ terminate the parsing of '1 + 2', as the else case is expected
-        if (peek().is(TokenType.COLON))
+        if (is(TokenType.COLON))
             return literal;
 
         // handle operation between two expressions
         // let var = 100 +
         //               ^ the operator after a literal indicates, that there are more expressions to be parsed
         //                 the two operands are grouped together by an Operation node
-        if (peek().is(TokenType.OPERATOR)) {
+        if (is(TokenType.OPERATOR)) {
             // parse the operator of the operation
             Operator operator = nextOperator();
             if (operator == Operator.QUESTION)
@@ -1740,32 +1850,32 @@ public class Parser {
         // handle group closing
         // let val = (1 + 2) / 3
         //                 ^ the close parenthesis indicates, that we are not expecting any value after the current token
-        else if (peek().is(TokenType.CLOSE))
+        else if (is(TokenType.CLOSE))
             return literal;
 
         // handle argument list or array fill
         // foo(123, 450.7)
         //        ^ the comma indicates, that the expression has been terminated
-        else if (peek().is(TokenType.COMMA))
+        else if (is(TokenType.COMMA))
             return literal;
 
         // handle index closing or array end
         // foo[10] = 404
         //       ^ the closing square bracket indicates, that the expression has been terminated
-        else if (peek().is(TokenType.STOP))
+        else if (is(TokenType.STOP))
             return literal;
 
         // handle initializator end
         // new Pair { key: "value" }
         //                         ^ the closing bracket indicates, that the initializator has been terminated
-        else if (peek().is(TokenType.END))
+        else if (is(TokenType.END))
             return literal;
 
         // handle type casting
         // let val = 100 as float
         //                 ^ the 'as' keyword indicates, that the expression has been terminated
-        else if (peek().is(TokenType.EXPRESSION, "as")) {
-            get();
+        else if (is(TokenType.EXPRESSION, Symbol.AS)) {
+            skip();
             return new Casting(literal, nextType());
         }
 
@@ -1776,7 +1886,7 @@ public class Parser {
     }
 
     private Value nextDereferencedQualifiedNameOrCall() {
-        get(TokenType.TYPE, "deref");
+        expect(TokenType.TYPE, Symbol.DEREF);
 
         // parse the qualified name
         QualifiedName name = nextQualifiedName();
@@ -1786,32 +1896,32 @@ public class Parser {
         // handle method call
         // println("Hello, World!")
         //        ^ the open parenthesis token after an identifier indicates, that a method call is expected
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             throw new IllegalStateException("Dereferenced method call is not supported yet.");
 
         // handle group closing
         // print(ref foo)
         //              ^ we don't need to handle this closing tag here, just finish qualified name parsing
-        if (peek().is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
+        if (is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
             return value;
 
         // handle single value expression, in which case the local variable is initialized with a single value
         // let myVar = ref foo;
         //                    ^ the (auto-inserted) semicolon indicates, initialized with a single value
-        if (peek().is(TokenType.SEMICOLON))
+        if (is(TokenType.SEMICOLON))
             return value;
 
         // terminate the literal if an 'else' case of a one-liner 'if' statement is expected
         // let foo = x < 10 ? 1 + 2 : 12 / 6
         //                         ^ terminate the parsing of '1 + 2', as the else case is expected
-        if (peek().is(TokenType.COLON))
+        if (is(TokenType.COLON))
             return value;
 
         // handle operation between two expressions
         // let var = foo +
         //               ^ the operator after an identifier indicates, that there are more expressions to be parsed
         //                 the two operands are grouped together by an Operation node
-        if (peek().is(TokenType.OPERATOR))
+        if (is(TokenType.OPERATOR))
             throw new IllegalStateException("Dereferenced operation is not supported yet.");
 
         System.out.println(ConsoleFormat.RED + "Error (Dereferenced Qualified Name / Call) " + peek());
@@ -1831,7 +1941,7 @@ public class Parser {
         // handle method call
         // println("Hello, World!")
         //        ^ the open parenthesis token after an identifier indicates, that a method call is expected
-        if (peek().is(TokenType.OPEN)) {
+        if (is(TokenType.OPEN)) {
             // parse the arguments of the method call
             List<Value> arguments = nextArgumentList();
             value = new MethodCall(name, arguments);
@@ -1840,26 +1950,26 @@ public class Parser {
         // handle group closing
         // print(foo)
         //          ^ we don't need to handle this closing tag here, just finish qualified name parsing
-        if (peek().is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
+        if (is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
             return value;
 
         // handle single value expression, in which case the local variable is initialized with a single value
         // let myVar = foo;
         //                ^ the (auto-inserted) semicolon indicates, initialized with a single value
-        if (peek().is(TokenType.SEMICOLON))
+        if (is(TokenType.SEMICOLON))
             return value;
 
         // terminate the literal if an 'else' case of a one-liner 'if' statement is expected
         // let foo = x < 10 ? 1 + 2 : 12 / 6
         //                         ^ terminate the parsing of '1 + 2', as the else case is expected
-        if (peek().is(TokenType.COLON))
+        if (is(TokenType.COLON))
             return value;
 
         // handle operation between two expressions
         // let var = foo +
         //               ^ the operator after an identifier indicates, that there are more expressions to be parsed
         //                 the two operands are grouped together by an Operation node
-        if (peek().is(TokenType.OPERATOR)) {
+        if (is(TokenType.OPERATOR)) {
             // parse the operator of the operation
             Operator operator = nextOperator();
             // handle field assignation
@@ -1875,13 +1985,13 @@ public class Parser {
         // handle type casting
         // let val = 100 as float
         //                 ^ the 'as' keyword indicates, that the expression has been terminated
-        else if (peek().is(TokenType.EXPRESSION, "as")) {
-            get();
+        else if (is(TokenType.EXPRESSION, Symbol.AS)) {
+            skip();
             return new Casting(value, nextType());
         }
 
         // handle array indexing
-        else if (peek().is(TokenType.START))
+        else if (is(TokenType.START))
             return nextArrayLoadOrStore((Accessor) value);
 
         System.out.println(ConsoleFormat.RED + "Error (Qualified Name / Call) " + peek());
@@ -1889,50 +1999,56 @@ public class Parser {
     }
 
     private Value nextArrayLoadOrStore(Accessor accessor) {
-        get(TokenType.START);
+        expect(TokenType.START);
 
         Value value = nextValue();
         if (!(value instanceof Literal) && (!(value instanceof Accessor)))
             throw new IllegalStateException("Expected literal for array size, but got " + value);
 
-        get(TokenType.STOP);
+        expect(TokenType.STOP);
 
-        if (peek().is(TokenType.SEMICOLON, "auto"))
-            get();
+        if (is(TokenType.SEMICOLON, Symbol.AUTO))
+            skip();
 
-        if (peek().is(TokenType.OPERATOR, "=")) {
-            get();
+        if (is(TokenType.OPERATOR, Symbol.ASSIGN)) {
+            skip();
 
-            if (value instanceof Literal literal) {
-                int index = Integer.parseInt(literal.getValue().getValue());
-                return new StaticArrayStore(accessor, index, nextValue());
-            }
+            if (value instanceof Literal literal)
+                return new StaticArrayStore(accessor, getIndexConstant(literal), nextValue());
 
             return new DynamicArrayStore(accessor, (Accessor) value, nextValue());
         }
 
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         if (value instanceof Literal literal)
-            return new StaticArrayLoad(accessor, Integer.parseInt(literal.getValue().getValue()));
+            return new StaticArrayLoad(accessor, getIndexConstant(literal));
 
         return new DynamicArrayLoad(accessor, (Accessor) value);
     }
 
+    private int getIndexConstant(Literal literal) {
+        // the value of the index is decoded by the tokenizer
+        Token token = literal.getValue();
+        if (!token.is(TokenType.INTEGER))
+            throw new IllegalStateException("Expected integer literal for array index, but got " + literal);
+        return (int) token.getNumber();
+    }
+
     private List<Value> nextArgumentList() {
         // skip the '(' symbol
-        get(TokenType.OPEN);
+        expect(TokenType.OPEN);
         // handle call arguments
         // foo(123)
         //     ^^^ the tokens in between parenthesis are the arguments
         List<Value> arguments = new ArrayList<>();
-        while (!peek().is(TokenType.CLOSE)) {
+        while (!is(TokenType.CLOSE)) {
             // parse the next call argument
             arguments.add(nextValue());
             // check if there are more arguments to be parsed
-            if (peek().is(TokenType.COMMA))
-                get();
+            if (is(TokenType.COMMA))
+                skip();
             // argument list declaration ended, exit loop
             else
                 break;
@@ -1940,7 +2056,7 @@ public class Parser {
         // handle argument list ending
         // baz("John Doe")
         //               ^ the close parenthesis indicates, that the argument list has been ended
-        get(TokenType.CLOSE);
+        expect(TokenType.CLOSE);
         return arguments;
     }
 
@@ -2002,29 +2118,29 @@ public class Parser {
     private Operator nextOperator() {
         // loop until the token is an operator
         StringBuilder builder = new StringBuilder();
-        while (peek().is(TokenType.OPERATOR)) {
-            String value = peek().getValue();
+        while (is(TokenType.OPERATOR)) {
+            String value = peekValue();
             if (shouldOperatorTerminate(builder.toString(), value)) {
-                get();
+                skip();
                 return Operator.of(builder.toString());
             }
             builder.append(value);
             String operator = builder.toString();
             // check if the current operator has been ended
             if (shouldOperatorTerminate(operator)) {
-                get();
+                skip();
                 return Operator.of(operator);
             }
-            get();
+            skip();
         }
         // handle colons as operators as well
-        while (peek().is(TokenType.COLON))
-            builder.append(get().getValue());
+        while (is(TokenType.COLON))
+            builder.append(getValue());
         return Operator.of(builder.toString());
     }
 
     private Value nextReferencedQualifiedNameOrCall() {
-        get(TokenType.TYPE, "ref");
+        expect(TokenType.TYPE, Symbol.REF);
 
         // parse the qualified name
         QualifiedName name = nextQualifiedName();
@@ -2034,32 +2150,32 @@ public class Parser {
         // handle method call
         // println("Hello, World!")
         //        ^ the open parenthesis token after an identifier indicates, that a method call is expected
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             throw new IllegalStateException("Referenced method call is not supported yet.");
 
         // handle group closing
         // print(ref foo)
         //              ^ we don't need to handle this closing tag here, just finish qualified name parsing
-        if (peek().is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
+        if (is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
             return value;
 
         // handle single value expression, in which case the local variable is initialized with a single value
         // let myVar = ref foo;
         //                    ^ the (auto-inserted) semicolon indicates, initialized with a single value
-        if (peek().is(TokenType.SEMICOLON))
+        if (is(TokenType.SEMICOLON))
             return value;
 
         // terminate the literal if an 'else' case of a one-liner 'if' statement is expected
         // let foo = x < 10 ? 1 + 2 : 12 / 6
         //                         ^ terminate the parsing of '1 + 2', as the else case is expected
-        if (peek().is(TokenType.COLON))
+        if (is(TokenType.COLON))
             return value;
 
         // handle operation between two expressions
         // let var = foo +
         //               ^ the operator after an identifier indicates, that there are more expressions to be parsed
         //                 the two operands are grouped together by an Operation node
-        if (peek().is(TokenType.OPERATOR))
+        if (is(TokenType.OPERATOR))
             throw new IllegalStateException("Referenced operation is not supported yet.");
 
         System.out.println(ConsoleFormat.RED + "Error (Referenced Qualified Name / Call) " + peek());
@@ -2077,32 +2193,32 @@ public class Parser {
         // handle method call
         // println("Hello, World!")
         //        ^ the open parenthesis token after an identifier indicates, that a method call is expected
-        if (peek().is(TokenType.OPEN))
+        if (is(TokenType.OPEN))
             throw new IllegalStateException("Referenced method call is not supported yet.");
 
         // handle group closing
         // print(ref foo)
         //              ^ we don't need to handle this closing tag here, just finish qualified name parsing
-        if (peek().is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
+        if (is(TokenType.CLOSE, TokenType.COMMA, TokenType.STOP, TokenType.END))
             return value;
 
         // handle single value expression, in which case the local variable is initialized with a single value
         // let myVar = ref foo;
         //                    ^ the (auto-inserted) semicolon indicates, initialized with a single value
-        if (peek().is(TokenType.SEMICOLON))
+        if (is(TokenType.SEMICOLON))
             return value;
 
         // terminate the literal if an 'else' case of a one-liner 'if' statement is expected
         // let foo = x < 10 ? 1 + 2 : 12 / 6
         //                         ^ terminate the parsing of '1 + 2', as the else case is expected
-        if (peek().is(TokenType.COLON))
+        if (is(TokenType.COLON))
             return value;
 
         // handle operation between two expressions
         // let var = foo +
         //               ^ the operator after an identifier indicates, that there are more expressions to be parsed
         //                 the two operands are grouped together by an Operation node
-        if (peek().is(TokenType.OPERATOR))
+        if (is(TokenType.OPERATOR))
             throw new IllegalStateException("Referenced operation is not supported yet.");
 
         System.out.println(ConsoleFormat.RED + "Error (Referenced Qualified Name / Call) " + peek());
@@ -2113,10 +2229,10 @@ public class Parser {
     private Value nextReferenceLocalDeclaration() {
         Referencing referencing = nextReferencing();
 
-        if (!peek().is(TokenType.IDENTIFIER))
+        if (!is(TokenType.IDENTIFIER))
             throw new IllegalStateException("Referencing must be followed by an identifier, but got " + peek());
 
-        if (!at(cursor + 1).is(TokenType.OPERATOR, "="))
+        if (!is(cursor + 1, TokenType.OPERATOR, Symbol.ASSIGN))
             return nextReferencedQualifiedNameOrCall(referencing);
 
         // parse the name of the local variable
@@ -2129,17 +2245,17 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable;
         //             ^ the (auto-inserted) semicolon indicates, that the declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         // check if the local variable does not have an initialization declared
-        if (!peek().is(TokenType.OPERATOR, "="))
+        if (!is(TokenType.OPERATOR, Symbol.ASSIGN))
             throw new IllegalStateException("Cannot declare a reference without an initialization");
 
         // handle the assignation of the local variable
         // let number = 100
         //            ^ the equals sign indicates that the assignation of the local variable has been started
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
 
         // parse the value of the local variable
         // let value = 100 + 50 - 25
@@ -2149,15 +2265,15 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable = 100;
         //                   ^ the (auto-inserted) semicolon indicates, that the assigning variable declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new ReferenceLocalDeclareAssign(referencing, Type.MUT, ((ScalarName) name).getValue(), value);
     }
 
     private Value nextMutableLocalDeclaration() {
         // skip the 'let' keyword
-        get(TokenType.TYPE, "mut");
+        expect(TokenType.TYPE, Symbol.MUT);
         // parse the name of the local variable
         Name name = nextName();
         // check if the name is a tuple destructuring
@@ -2165,7 +2281,7 @@ public class Parser {
             // tuple destructuring requires an initialization, skip the '=' symbol
             // let (a, b) = foo()
             //            ^ the equals sign indicates that the assignation of the local variable has been started
-            get(TokenType.OPERATOR, "=");
+            expect(TokenType.OPERATOR, Symbol.ASSIGN);
             // parse the value of the local variable
             // let (code, msg) = requestSomething()
             //                   ^^^^^^^^^^^^^^^^^^ the instructions after the equals sign is the value of the local variable
@@ -2173,8 +2289,8 @@ public class Parser {
             // skip the semicolon after the declaration
             // let (a, b, c) = fooBar();
             //                         ^ the (auto-inserted) semicolon indicates, that the assigning variable declaration has been ended
-            if (peek().is(TokenType.SEMICOLON))
-                get();
+            if (is(TokenType.SEMICOLON))
+                skip();
 
             return new LocalDeclareDestructureTuple((CompoundName) name, value);
         }
@@ -2182,17 +2298,17 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable;
         //             ^ the (auto-inserted) semicolon indicates, that the declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         // check if the local variable does not have an initialization declared
-        if (!peek().is(TokenType.OPERATOR, "="))
+        if (!is(TokenType.OPERATOR, Symbol.ASSIGN))
             return new LocalDeclare(Type.MUT, ((ScalarName) name).getValue());
 
         // handle the assignation of the local variable
         // let number = 100
         //            ^ the equals sign indicates that the assignation of the local variable has been started
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
 
         // parse the value of the local variable
         // let value = 100 + 50 - 25
@@ -2202,15 +2318,15 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable = 100;
         //                   ^ the (auto-inserted) semicolon indicates, that the assigning variable declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new MutableLocalDeclareAssign(Type.MUT, ((ScalarName) name).getValue(), value);
     }
 
     private Value nextImmutableLocalDeclaration() {
         // skip the 'let' keyword
-        get(TokenType.TYPE, "let");
+        expect(TokenType.TYPE, Symbol.LET);
         // parse the name of the local variable
         Name name = nextName();
         // check if the name is a tuple destructuring
@@ -2218,7 +2334,7 @@ public class Parser {
             // tuple destructuring requires an initialization, skip the '=' symbol
             // let (a, b) = foo()
             //            ^ the equals sign indicates that the assignation of the local variable has been started
-            get(TokenType.OPERATOR, "=");
+            expect(TokenType.OPERATOR, Symbol.ASSIGN);
             // parse the value of the local variable
             // let (code, msg) = requestSomething()
             //                   ^^^^^^^^^^^^^^^^^^ the instructions after the equals sign is the value of the local variable
@@ -2226,8 +2342,8 @@ public class Parser {
             // skip the semicolon after the declaration
             // let (a, b, c) = fooBar();
             //                         ^ the (auto-inserted) semicolon indicates, that the assigning variable declaration has been ended
-            if (peek().is(TokenType.SEMICOLON))
-                get();
+            if (is(TokenType.SEMICOLON))
+                skip();
 
             return new LocalDeclareDestructureTuple((CompoundName) name, value);
         }
@@ -2235,17 +2351,17 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable;
         //             ^ the (auto-inserted) semicolon indicates, that the declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         // check if the local variable does not have an initialization declared
-        if (!peek().is(TokenType.OPERATOR, "="))
+        if (!is(TokenType.OPERATOR, Symbol.ASSIGN))
             return new LocalDeclare(Type.LET, ((ScalarName) name).getValue());
 
         // handle the assignation of the local variable
         // let number = 100
         //            ^ the equals sign indicates that the assignation of the local variable has been started
-        get(TokenType.OPERATOR, "=");
+        expect(TokenType.OPERATOR, Symbol.ASSIGN);
 
         // parse the value of the local variable
         // let value = 100 + 50 - 25
@@ -2255,8 +2371,8 @@ public class Parser {
         // skip the semicolon after the declaration
         // let variable = 100;
         //                   ^ the (auto-inserted) semicolon indicates, that the assigning variable declaration has been ended
-        if (peek().is(TokenType.SEMICOLON))
-            get();
+        if (is(TokenType.SEMICOLON))
+            skip();
 
         return new ImmutableLocalDeclareAssign(Type.LET, ((ScalarName) name).getValue(), value);
     }
@@ -2348,28 +2464,33 @@ public class Parser {
      * @return currently parsed token
      */
     private Token peek(TokenType type) {
-        // get the current token
-        Token token = peek();
         // check if the current token does not match the required type
-        if (!token.is(type))
-            throw new IllegalStateException("Invalid token. Expected " + type + ", but got " + token);
-        return token;
+        if (!is(type))
+            throw new IllegalStateException("Invalid token. Expected " + type + ", but got " + peek());
+        return peek();
     }
 
     /**
-     * Get the node at the index.
+     * Get the type of the token at the current index.
      * Check if the retrieved token does not match any of the given types.
      * @param types required token types
-     * @return currently parsed token
+     * @return the type of the currently parsed token
      */
-    private Token peek(TokenType... types) {
-        // get the current token
-        Token token = peek();
+    private TokenType peek(TokenType... types) {
+        TokenType current = typeAt(cursor);
         for (TokenType type : types) {
-            if (token.is(type))
-                return token;
+            if (current == type)
+                return current;
         }
-        throw new IllegalStateException("Invalid token. Expected " + Arrays.toString(types) + ", but got " + token);
+        throw new IllegalStateException("Invalid token. Expected " + Arrays.toString(types) + ", but got " + peek());
+    }
+
+    /**
+     * Get the value of the token at the current index.
+     * @return the value of the currently parsed token
+     */
+    private String peekValue() {
+        return has(cursor) ? tokens.getValue(cursor) : "";
     }
 
     /**
@@ -2387,27 +2508,20 @@ public class Parser {
      * @return currently parsed token
      */
     private Token get(TokenType type) {
-        // get the current token and move the cursor
-        Token token = get();
-        // check if the current token does not match the required type
-        if (!token.is(type))
-            throw new IllegalStateException("Invalid token. Expected " + type + ", but got " + token);
-        return token;
+        expect(type);
+        return at(cursor - 1);
     }
 
     /**
      * Get the token at the current index and move to the next position.
-     * Check if the retrieved token does not match the given type or value.
+     * Check if the retrieved token does not match the given type or symbol.
      * @param type required token type
+     * @param symbol required token symbol
      * @return currently parsed token
      */
-    private Token get(TokenType type, String value) {
-        // get the current token and move the cursor
-        Token token = get();
-        // check if the current token does not match the required type
-        if (!token.is(type, value))
-            throw new IllegalStateException("Invalid token. Expected " + Token.of(type, value) + ", but got " + token);
-        return token;
+    private Token get(TokenType type, Symbol symbol) {
+        expect(type, symbol);
+        return at(cursor - 1);
     }
 
     /**
@@ -2417,13 +2531,59 @@ public class Parser {
      * @return currently parsed token
      */
     private Token get(TokenType... types) {
-        // get the current token and move the cursor
-        Token token = get();
-        for (TokenType type : types) {
-            if (token.is(type))
-                return token;
-        }
-        throw new IllegalStateException("Invalid token. Expected " + Arrays.toString(types) + ", but got " + token);
+        peek(types);
+        return get();
+    }
+
+    /**
+     * Get the value of the token at the current index and move to the next position.
+     * @return the value of the currently parsed token
+     */
+    private String getValue() {
+        String value = peekValue();
+        cursor++;
+        return value;
+    }
+
+    /**
+     * Get the value of the token at the current index and move to the next position.
+     * Check if the retrieved token does not match the given type.
+     * @param type required token type
+     * @return the value of the currently parsed token
+     */
+    private String getValue(TokenType type) {
+        expect(type);
+        return tokens.getValue(cursor - 1);
+    }
+
+    /**
+     * Move to the next position, if the token at the current index matches the given type.
+     * @param type required token type
+     */
+    private void expect(TokenType type) {
+        if (!is(type))
+            throw new IllegalStateException("Invalid token. Expected " + type + ", but got " + peek());
+        cursor++;
+    }
+
+    /**
+     * Move to the next position, if the token at the current index matches the given type and symbol.
+     * @param type required token type
+     * @param symbol required token symbol
+     */
+    private void expect(TokenType type, Symbol symbol) {
+        if (!is(type, symbol))
+            throw new IllegalStateException(
+                "Invalid token. Expected " + Token.of(type, symbol.getName()) + ", but got " + peek()
+            );
+        cursor++;
+    }
+
+    /**
+     * Move the cursor to the next token.
+     */
+    private void skip() {
+        cursor++;
     }
 
     /**
@@ -2435,20 +2595,100 @@ public class Parser {
     }
 
     /**
-     * Get the token at the given index.
+     * Determine if the token at the current index has the given type.
+     * @param type token type
+     * @return true if the type matches
+     */
+    private boolean is(TokenType type) {
+        return typeAt(cursor) == type;
+    }
+
+    /**
+     * Determine if the token at the current index has any of the given types.
+     * @param types target token types
+     * @return true if the token has any of the types
+     */
+    private boolean is(TokenType... types) {
+        return is(cursor, types);
+    }
+
+    /**
+     * Determine if the token at the current index has the given type and symbol.
+     * @param type token type
+     * @param symbol token symbol
+     * @return true if the type and symbol matches
+     */
+    private boolean is(TokenType type, Symbol symbol) {
+        return is(cursor, type, symbol);
+    }
+
+    /**
+     * Determine if the token at the given index has the given type.
+     * @param index token data index
+     * @param type token type
+     * @return true if the type matches
+     */
+    private boolean is(int index, TokenType type) {
+        return typeAt(index) == type;
+    }
+
+    /**
+     * Determine if the token at the given index has any of the given types.
+     * @param index token data index
+     * @param types target token types
+     * @return true if the token has any of the types
+     */
+    private boolean is(int index, TokenType... types) {
+        TokenType current = typeAt(index);
+        for (TokenType type : types) {
+            if (current == type)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determine if the token at the given index has the given type and symbol.
+     * The symbols are compared by their pre-interned ids.
+     * @param index token data index
+     * @param type token type
+     * @param symbol token symbol
+     * @return true if the type and symbol matches
+     */
+    private boolean is(int index, TokenType type, Symbol symbol) {
+        return has(index) && tokens.is(index, type, symbol);
+    }
+
+    /**
+     * Get the type of the token at the given index, without creating the token.
+     * @param index token data index
+     * @return token type at the index, or {@link TokenType#FINISH} if not in bounds
+     */
+    private TokenType typeAt(int index) {
+        return has(index) ? tokens.getType(index) : TokenType.FINISH;
+    }
+
+    /**
+     * Create the token at the given index. The token objects are only created for the nodes,
+     * that store them, and for the error messages, therefore they are not cached.
      * @param index token data index
      * @return token at the index or null if not in bounds
      */
     private Token at(int index) {
-        return has(index) ? tokens.get(index) : Token.of(TokenType.FINISH);
+        if (!has(index))
+            return Token.of(TokenType.FINISH);
+        return tokens.get(index);
     }
 
     /**
      * Determine if the given index is in bounds of the data size.
+     * Every token is inspected through this check, therefore it records the furthest inspected token.
      * @param index target index to check
      * @return true if the index is in bounds
      */
     private boolean has(int index) {
+        if (index > horizon)
+            horizon = index;
         return index >= 0 && index < tokens.size();
     }
 }
@@ -0,0 +1,51 @@
+package org.voidlang.compiler.node;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the top-level nodes of a source file, with the token ranges that they have been parsed from.
+ * The ranges let the nodes outside an edited region be reused, when the edited file is parsed again.
+ */
+@RequiredArgsConstructor
+@Getter
+public class SyntaxTree {
+    /**
+     * The parsed top-level nodes of the source file.
+     */
+    private final List<Node> nodes;
+
+    /**
+     * The index of the token after each node.
+     */
+    private final int[] ends;
+
+    /**
+     * The index of the furthest token, that has been inspected while parsing each node.
+     */
+    private final int[] horizons;
+
+    /**
+     * The number of the tokens, that the nodes have been parsed from.
+     */
+    private final int size;
+
+    /**
+     * Get the index of the first token of the node at the given index.
+     * @param index the index of the node
+     * @return the beginning token index of the node
+     */
+    public int getBegin(int index) {
+        return index > 0 ? ends[index - 1] : 0;
+    }
+
+    /**
+     * Indicate, whether the parsing of the source file has failed.
+     * @return true if the last node is an error
+     */
+    public boolean hasError() {
+        return !nodes.isEmpty() && nodes.get(nodes.size() - 1).is(NodeType.ERROR);
+    }
+}
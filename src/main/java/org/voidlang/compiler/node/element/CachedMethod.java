@@ -0,0 +1,42 @@
+package org.voidlang.compiler.node.element;
+
+import org.voidlang.compiler.node.Node;
+import org.voidlang.compiler.node.NodeInfo;
+import org.voidlang.compiler.node.NodeType;
+import org.voidlang.compiler.node.type.core.Type;
+import org.voidlang.compiler.node.type.named.MethodParameter;
+
+import java.util.List;
+
+/**
+ * Represents a method, that has been loaded from the interface of a package, that was compiled by a previous build.
+ * The method does not have a body, it only declares the function that is already present in the object file
+ * of its package, using the same name that it was registered as before.
+ */
+@NodeInfo(type = NodeType.CACHED_METHOD)
+public class CachedMethod extends ImportedMethod {
+    public CachedMethod(Type returnType, String name, List<MethodParameter> parameters, String finalName) {
+        super(returnType, name, parameters, finalName);
+        setBodyLess(true);
+    }
+
+    /**
+     * Initialize all the child nodes for the overriding node.
+     * @param parent parent node of the overriding node
+     */
+    @Override
+    public void preProcess(Node parent) {
+        this.parent = parent;
+        // make sure that the methods of the recompiled packages are not registered with the same name
+        reserveName(getTargetName());
+    }
+
+    /**
+     * Get the final name that this method has been registered as by the previous build.
+     * @return final method name
+     */
+    @Override
+    public String getFinalName() {
+        return getTargetName();
+    }
+}
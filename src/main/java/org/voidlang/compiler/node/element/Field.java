@@ -100,6 +100,14 @@ public class Field extends Node {
         return resolvedType;
     }
 
+    /**
+     * Get the type of the field, as it was declared in the source code.
+     * @return declared field type
+     */
+    public Type getDeclaredType() {
+        return type;
+    }
+
     @Override
     public String toString() {
         return "Field{"
@@ -9,6 +9,7 @@ import org.voidlang.compiler.node.local.PassedByReference;
 import org.voidlang.compiler.node.type.QualifiedName;
 import org.voidlang.compiler.node.type.core.ScalarType;
 import org.voidlang.compiler.node.type.core.Type;
+import org.voidlang.compiler.node.type.named.MethodParameter;
 import org.voidlang.compiler.node.type.named.NamedScalarType;
 import org.voidlang.llvm.element.*;
 
@@ -37,6 +38,12 @@ public class ImportedMethod extends Method {
         targetName = method.getFinalName();
     }
 
+    protected ImportedMethod(Type returnType, String name, List<MethodParameter> parameters, String targetName) {
+        super(returnType, name, parameters, new ArrayList<>());
+
+        this.targetName = targetName;
+    }
+
     /**
      * Initialize all class member declarations for the overriding node.
      * @param generator LLVM code generator
@@ -31,7 +31,7 @@ import java.util.stream.Collectors;
 @Getter
 @NodeInfo(type = NodeType.METHOD)
 public class Method extends Node {
-    private static final Map<Method, String> methodNames = new HashMap<>();
+    private static final Set<String> methodNames = new HashSet<>();
 
     /**
      * The type of the method node in the AST.
@@ -108,6 +108,9 @@ public class Method extends Node {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        // the LLVM function is declared again in the module of the current build
+        defined = false;
+        paramCache.clear();
         for (Node node : body) {
             if (node instanceof FunctionContext context)
                 context.setContext(this);
@@ -116,16 +119,32 @@ public class Method extends Node {
 
         int padding = 1;
         uniqueName = name;
-        while (methodNames.containsValue(uniqueName) && !bodyLess)
+        while (methodNames.contains(uniqueName) && !bodyLess)
             uniqueName = name + '_' + padding++;
 
         finalName = uniqueName;
-        methodNames.put(this, finalName);
+        methodNames.add(finalName);
 
         if (parent instanceof Class clazz)
             finalName = clazz.getName() + "." + finalName;
     }
 
+    /**
+     * Reserve a unique method name, that has been assigned by a previous compilation,
+     * so that methods declared later will not be registered with the same name.
+     * @param uniqueName the unique name of the method
+     */
+    public static void reserveName(String uniqueName) {
+        methodNames.add(uniqueName);
+    }
+
+    /**
+     * Forget the unique method names of the previously compiled application.
+     */
+    public static void clearNames() {
+        methodNames.clear();
+    }
+
     /**
      * Initialize all class member declarations for the overriding node.
      * @param generator LLVM code generator
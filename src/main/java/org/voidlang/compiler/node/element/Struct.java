@@ -76,6 +76,10 @@ public class Struct extends Element {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        // the members are registered again, when the node is kept for the following build
+        struct = null;
+        fields.clear();
+        methods.clear();
         int fieldIndex = 0;
         for (Node node : body) {
             node.preProcess(this);
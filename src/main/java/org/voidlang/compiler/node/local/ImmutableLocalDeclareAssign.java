@@ -46,6 +46,8 @@ public class ImmutableLocalDeclareAssign extends Value implements PointerOwner,
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        allocated = false;
+        resolvedType = null;
         if (value != null)
             value.preProcess(this);
     }
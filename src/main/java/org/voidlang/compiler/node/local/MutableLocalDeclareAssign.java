@@ -46,6 +46,8 @@ public class MutableLocalDeclareAssign extends Value implements PointerOwner, Lo
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        loaded = false;
+        resolvedType = null;
         if (value != null)
             value.preProcess(this);
     }
@@ -51,6 +51,8 @@ public class ReferenceLocalDeclareAssign extends Value implements PointerOwner,
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        allocated = false;
+        resolvedType = null;
         if (value != null)
             value.preProcess(this);
     }
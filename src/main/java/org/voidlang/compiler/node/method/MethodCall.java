@@ -133,6 +133,8 @@ public class MethodCall extends Value {
 
         // TODO make sure the method is non-static
         // prepare the method call for a non-static call and insert the instance for the 'this' parameter
+        // the parsed arguments are not modified, as the node may be generated again by the following build
+        List<Value> arguments = new ArrayList<>(this.arguments);
         if (target != null) {
             Type targetType = target.getValueType();
             if (targetType instanceof Class)
@@ -50,6 +50,7 @@ public class Default extends Value implements Loadable {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        value = null;
     }
 
     /**
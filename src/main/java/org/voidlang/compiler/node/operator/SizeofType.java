@@ -52,6 +52,7 @@ public class SizeofType extends Value implements Loadable {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        size = null;
     }
 
     /**
@@ -52,6 +52,7 @@ public class SizeofValue extends Value implements Loadable {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        size = null;
         value.preProcess(this);
     }
 
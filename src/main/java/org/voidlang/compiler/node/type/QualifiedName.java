@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.voidlang.compiler.node.type.core.Type;
+import org.voidlang.compiler.token.Symbol;
 import org.voidlang.compiler.token.Token;
 import org.voidlang.compiler.token.TokenType;
 
@@ -53,7 +54,7 @@ public class QualifiedName {
      * @return true if this is a "let" keyword
      */
     public boolean isLet() {
-        return types.size() == 1 && types.get(0).is(TokenType.TYPE, "let");
+        return types.size() == 1 && types.get(0).is(TokenType.TYPE, Symbol.LET);
     }
 
     /**
@@ -61,7 +62,7 @@ public class QualifiedName {
      * @return true if this is a "mut" keyword
      */
     public boolean isMut() {
-        return types.size() == 1 && types.get(0).is(TokenType.TYPE, "mut");
+        return types.size() == 1 && types.get(0).is(TokenType.TYPE, Symbol.MUT);
     }
 
     /**
@@ -69,7 +70,7 @@ public class QualifiedName {
      * @return true if this is a "void" keyword
      */
     public boolean isVoid() {
-        return types.size() == 1 && types.get(0).is(TokenType.TYPE, "void");
+        return types.size() == 1 && types.get(0).is(TokenType.TYPE, Symbol.VOID);
     }
 
     /**
@@ -117,7 +118,7 @@ public class QualifiedName {
      * @return accessed element index
      */
     public int getIndex() {
-        return Integer.parseInt(types.get(1).getValue());
+        return (int) types.get(1).getNumber();
     }
 
     /**
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.voidlang.compiler.token.SymbolTable;
 import org.voidlang.compiler.token.Token;
 import org.voidlang.compiler.token.TokenType;
 
@@ -40,7 +41,7 @@ public class Dimension {
     public int getSizeConstant() {
         if (!isConstant())
             throw new IllegalStateException("Array dimension is not constant.");
-        return Integer.parseInt(size.getValue());
+        return (int) size.getNumber();
     }
 
     /**
@@ -87,7 +88,9 @@ public class Dimension {
      * @return sized explicit array dimension
      */
     public static Dimension explicit(int size) {
-        return new Dimension(Token.of(TokenType.INTEGER, String.valueOf(size)), true);
+        // the size is carried as the decoded number of the token, the same way as a parsed literal
+        Token token = Token.of(TokenType.INTEGER, String.valueOf(size), null, SymbolTable.NO_SYMBOL, size);
+        return new Dimension(token, true);
     }
 
     /**
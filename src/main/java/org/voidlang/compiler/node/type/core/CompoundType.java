@@ -33,6 +33,11 @@ public class CompoundType implements Type {
 
     private IRStruct struct;
 
+    /**
+     * The context that the struct type is defined in, as the parsed types are kept between the watch builds.
+     */
+    private IRContext structContext;
+
     public CompoundType(@NotNull Referencing referencing, List<Type> members) {
         this.referencing = referencing;
         this.members = members;
@@ -98,8 +103,9 @@ public class CompoundType implements Type {
      */
     @Override
     public IRType generateType(IRContext context) {
-        if (struct != null)
+        if (struct != null && structContext == context)
             return struct;
+        structContext = context;
         List<IRType> types = members
             .stream()
             .map(member -> member.generateType(context))
@@ -32,6 +32,11 @@ public class NamedTypeGroup extends NamedType {
 
     private IRStruct struct;
 
+    /**
+     * The context that the struct type is defined in, as the parsed types are kept between the watch builds.
+     */
+    private IRContext structContext;
+
     /**
      * Get the string representation of the named type group.
      * @return named type group debug information
@@ -55,8 +60,9 @@ public class NamedTypeGroup extends NamedType {
      */
     @Override
     public IRType generateType(IRContext context) {
-        if (struct != null)
+        if (struct != null && structContext == context)
             return struct;
+        structContext = context;
         List<IRType> types = members
             .stream()
             .map(member -> member.generateType(context))
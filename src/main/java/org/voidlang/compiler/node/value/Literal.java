@@ -12,6 +12,8 @@ import org.voidlang.compiler.token.TokenType;
 import org.voidlang.compiler.util.PrettierIgnore;
 import org.voidlang.llvm.element.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @RequiredArgsConstructor
 @Getter
 @NodeInfo(type = NodeType.VALUE)
@@ -23,7 +25,7 @@ public class Literal extends Value {
     private String stringName;
 
     @PrettierIgnore
-    private static int stringCount;
+    private static final AtomicInteger stringCount = new AtomicInteger();
 
     /**
      * Initialize all the child nodes for the overriding node.
@@ -32,6 +34,9 @@ public class Literal extends Value {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        // the string global is declared again in the module of the current build
+        initialized = false;
+        stringName = null;
     }
 
     /**
@@ -66,22 +71,24 @@ public class Literal extends Value {
     public IRValue generate(Generator generator) {
         TokenType type = getValue().getType();
         String value = getValue().getValue();
+        // the number literals are decoded by the tokenizer
+        long number = getValue().getNumber();
 
         IRContext context = generator.getContext();
         IRModule module = generator.getModule();
 
         return switch (type) {
-            case BYTE, UBYTE -> IRType.int8(context).constInt(Byte.parseByte(value));
-            case SHORT, USHORT -> IRType.int16(context).constInt(Short.parseShort(value));
-            case INTEGER, UINTEGER -> IRType.int32(context).constInt(Integer.parseInt(value));
-            case LONG, ULONG -> IRType.int64(context).constInt(Long.parseLong(value));
-            case FLOAT -> IRType.floatType(context).constFloat(Float.parseFloat(value));
-            case DOUBLE -> IRType.doubleType(context).constFloat(Double.parseDouble(value));
+            case BYTE, UBYTE -> IRType.int8(context).constInt(number);
+            case SHORT, USHORT -> IRType.int16(context).constInt(number);
+            case INTEGER, UINTEGER -> IRType.int32(context).constInt(number);
+            case LONG, ULONG -> IRType.int64(context).constInt(number);
+            case FLOAT -> IRType.floatType(context).constFloat(getValue().getFloatingNumber());
+            case DOUBLE -> IRType.doubleType(context).constFloat(getValue().getFloatingNumber());
             case BOOLEAN -> IRType.int1(context).constInt("true".equals(value) ? 1 : 0);
             case STRING -> {
                 if (!initialized) {
                     IRString string = new IRString(generator.getContext(), value, true);
-                    stringName = "text." + stringCount++;
+                    stringName = "text." + stringCount.getAndIncrement();
                     IRGlobal global = module.addGlobal(string.getType(), stringName);
                     global.setInitializer(string);
                     initialized = true;
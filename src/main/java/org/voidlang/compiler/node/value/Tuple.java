@@ -25,6 +25,7 @@ public class Tuple extends Value {
     @Override
     public void preProcess(Node parent) {
         this.parent = parent;
+        compoundType = null;
         for (Node node : members)
             node.preProcess(this);
     }
@@ -6,20 +6,31 @@ import org.voidlang.llvm.element.*;
 import org.voidlang.llvm.element.Comparator;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @UtilityClass
 public class Runtime {
-    private final Map<IRModule, IRFunction> getStdHandleMap = new HashMap<>();
+    private final Map<IRModule, IRFunction> getStdHandleMap = new ConcurrentHashMap<>();
 
-    private final Map<IRModule, IRFunction> writeConsoleAMap = new HashMap<>();
+    private final Map<IRModule, IRFunction> writeConsoleAMap = new ConcurrentHashMap<>();
 
-    private final Map<IRModule, IRFunction> strlenMap = new HashMap<>();
+    private final Map<IRModule, IRFunction> strlenMap = new ConcurrentHashMap<>();
 
-    private final Map<IRModule, IRFunction> exitMap = new HashMap<>();
+    private final Map<IRModule, IRFunction> exitMap = new ConcurrentHashMap<>();
 
-    private final Map<IRModule, IRFunction> itoaMap = new HashMap<>();
+    private final Map<IRModule, IRFunction> itoaMap = new ConcurrentHashMap<>();
 
-    private final Map<IRModule, Map<String, String>> globalStringMap = new HashMap<>();
+    private final Map<IRModule, Map<String, String>> globalStringMap = new ConcurrentHashMap<>();
+
+    public void reset() {
+        // forget the functions of the modules of the previous build, as their contexts have been disposed
+        getStdHandleMap.clear();
+        writeConsoleAMap.clear();
+        strlenMap.clear();
+        exitMap.clear();
+        itoaMap.clear();
+        globalStringMap.clear();
+    }
 
     public IRFunction getStdHandle(Generator generator) {
         return getStdHandleMap.computeIfAbsent(generator.getModule(), module -> {
@@ -109,18 +120,20 @@ public class Runtime {
         IRContext context = module.getContext();
 
         Map<String, String> strings = globalStringMap.computeIfAbsent(module, m -> new HashMap<>());
-        String key = strings.get(value);
-        if (key == null)
-            key = "internal_string_" + (strings.size() + 1);
-
-        if (!strings.containsValue(key)) {
-            IRString string = new IRString(context, value, true);
-            IRGlobal global = module.addGlobal(string.getType(), key);
-            global.setInitializer(string);
-            strings.put(value, key);
+        synchronized (strings) {
+            String key = strings.get(value);
+            if (key == null)
+                key = "internal_string_" + (strings.size() + 1);
+
+            if (!strings.containsValue(key)) {
+                IRString string = new IRString(context, value, true);
+                IRGlobal global = module.addGlobal(string.getType(), key);
+                global.setInitializer(string);
+                strings.put(value, key);
+            }
+
+            return module.getGlobal(key);
         }
-
-        return module.getGlobal(key);
     }
 
     public IRValue getStringLength(Generator generator, IRValue value) {
@@ -0,0 +1,53 @@
+package org.voidlang.compiler.token;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents a keyword or an operator spelling, that the parser checks the tokens against. The symbols are
+ * interned by every {@link SymbolTable} before any other spelling, therefore the id of a symbol is its ordinal,
+ * and the tokens can be matched by comparing ints, without resolving their values.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum Symbol {
+    PACKAGE("package"),
+    IMPORT("import"),
+    USING("using"),
+    DEFAULT("default"),
+    LET("let"),
+    MUT("mut"),
+    REF("ref"),
+    DEREF("deref"),
+    VOID("void"),
+    IF("if"),
+    ELSE("else"),
+    WHILE("while"),
+    DO("do"),
+    RETURN("return"),
+    AS("as"),
+    NEW("new"),
+    MALLOC("malloc"),
+    FREE("free"),
+    SIZEOF("sizeof"),
+    AUTO("auto"),
+    ASSIGN("="),
+    DOT("."),
+    STAR("*"),
+    PIPE("|"),
+    LESS("<"),
+    GREATER(">");
+
+    /**
+     * The spelling of the symbol.
+     */
+    private final String name;
+
+    /**
+     * Get the id of the symbol, that it is registered as in every symbol table.
+     * @return the id of the symbol
+     */
+    public int getId() {
+        return ordinal();
+    }
+}
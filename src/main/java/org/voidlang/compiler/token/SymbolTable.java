@@ -0,0 +1,87 @@
+package org.voidlang.compiler.token;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents an interner, that assigns an int id to each distinct identifier, keyword and operator spelling
+ * of a compilation, so that the token values can be compared and used as map keys by their ids.
+ * <br>
+ * The table is shared by the workers that tokenize the source files. The canonical spellings are interned
+ * by the JVM, therefore a token value is the same instance as a string literal of the same spelling.
+ * <br>
+ * The {@link Symbol}s are interned first, so that their ids are the same in every table.
+ */
+public class SymbolTable {
+    /**
+     * The id of the tokens, that do not have a symbol, such as literals and separators.
+     */
+    public static final int NO_SYMBOL = -1;
+
+    /**
+     * The ids of the interned spellings.
+     */
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * The canonical spellings by their ids.
+     */
+    private volatile String[] names = new String[256];
+
+    /**
+     * The number of the interned spellings.
+     */
+    private int size;
+
+    /**
+     * Initialize the symbol table with the predefined symbols.
+     */
+    public SymbolTable() {
+        for (Symbol symbol : Symbol.values())
+            intern(symbol.getName());
+    }
+
+    /**
+     * Get the id of the specified spelling, and register it, if it has not been interned yet.
+     * @param name the spelling of the symbol
+     * @return the id of the symbol
+     */
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null)
+            return id;
+
+        synchronized (this) {
+            id = ids.get(name);
+            if (id != null)
+                return id;
+
+            if (size == names.length)
+                names = Arrays.copyOf(names, size * 2);
+            // the name is stored before the id is published, so that any thread holding the id can resolve it
+            names[size] = name.intern();
+            ids.put(names[size], size);
+            return size++;
+        }
+    }
+
+    /**
+     * Get the id of the specified spelling, without registering it.
+     * @param name the spelling of the symbol
+     * @return the id of the symbol, or {@link #NO_SYMBOL} if it has not been interned
+     */
+    public int lookup(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : NO_SYMBOL;
+    }
+
+    /**
+     * Get the canonical spelling of the specified symbol.
+     * @param id the id of the symbol
+     * @return the spelling of the symbol
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+}
@@ -27,6 +27,47 @@ public class Token {
      */
     private final TokenMeta meta;
 
+    /**
+     * The id of the token value in the symbol table of the compilation, or {@link SymbolTable#NO_SYMBOL}
+     * if the value has not been interned.
+     */
+    private final int symbol;
+
+    /**
+     * The decoded value of a number literal token. Integer literals hold their value, that is interpreted
+     * as unsigned for the unsigned types, and floating-point literals hold the bits of their double value.
+     */
+    private final long number;
+
+    /**
+     * Initialize the token without a symbol.
+     * @param type token type
+     * @param value token value
+     * @param meta token metadata information
+     */
+    public Token(TokenType type, String value, TokenMeta meta) {
+        this(type, value, meta, SymbolTable.NO_SYMBOL, 0);
+    }
+
+    /**
+     * Initialize the token with a symbol.
+     * @param type token type
+     * @param value token value
+     * @param meta token metadata information
+     * @param symbol the id of the token value in the symbol table
+     */
+    public Token(TokenType type, String value, TokenMeta meta, int symbol) {
+        this(type, value, meta, symbol, 0);
+    }
+
+    /**
+     * Get the decoded value of this floating-point literal token.
+     * @return the value of the literal
+     */
+    public double getFloatingNumber() {
+        return Double.longBitsToDouble(number);
+    }
+
     /**
      * Indicate, whether this token is of the specified type.
      * @param type target type to check
@@ -47,6 +88,21 @@ public class Token {
             && this.value.equals(value);
     }
 
+    /**
+     * Determine if this token has the given type and predefined symbol. The symbols are compared by their ids,
+     * unless the token has not been interned.
+     * @param type token type
+     * @param symbol the predefined symbol
+     * @return true if the type and symbol matches
+     */
+    public boolean is(TokenType type, Symbol symbol) {
+        if (this.type != type)
+            return false;
+        return this.symbol != SymbolTable.NO_SYMBOL
+            ? this.symbol == symbol.getId()
+            : value.equals(symbol.getName());
+    }
+
     /**
      * Determine if this token has any of the given types.
      * @param types of target token types
@@ -121,6 +177,23 @@ public class Token {
      * @return true if this token is a number
      */
     public boolean isNumber() {
+        return isNumber(type);
+    }
+
+    /**
+     * Determine if the type of this token is a literal token type.
+     * @return true if this token is a constant literal
+     */
+    public boolean isLiteral() {
+        return isLiteral(type);
+    }
+
+    /**
+     * Determine if the specified token type is a number.
+     * @param type the token type to check
+     * @return true if the type is a number
+     */
+    public static boolean isNumber(TokenType type) {
         return switch (type) {
             case BYTE, UBYTE, SHORT, USHORT, INTEGER, UINTEGER, LONG,
                     ULONG, FLOAT, DOUBLE, HEXADECIMAL, BINARY -> true;
@@ -129,13 +202,14 @@ public class Token {
     }
 
     /**
-     * Determine if the type of this token is a literal token type.
-     * @return true if this token is a constant literal
+     * Determine if the specified token type is a literal token type.
+     * @param type the token type to check
+     * @return true if the type is a constant literal
      */
-    public boolean isLiteral() {
+    public static boolean isLiteral(TokenType type) {
         return switch (type) {
             case STRING, CHARACTER, BOOLEAN -> true;
-            default -> isNumber();
+            default -> isNumber(type);
         };
     }
 
@@ -191,6 +265,31 @@ public class Token {
         return new Token(type, value, meta);
     }
 
+    /**
+     * Create a new token with the specified type, value and symbol.
+     * @param type token type
+     * @param value token value
+     * @param meta token metadata information
+     * @param symbol the id of the token value in the symbol table
+     * @return new parsed token
+     */
+    public static Token of(TokenType type, String value, TokenMeta meta, int symbol) {
+        return new Token(type, value, meta, symbol);
+    }
+
+    /**
+     * Create a new token with the specified type, value, symbol and decoded number.
+     * @param type token type
+     * @param value token value
+     * @param meta token metadata information
+     * @param symbol the id of the token value in the symbol table
+     * @param number the decoded value of the number literal
+     * @return new parsed token
+     */
+    public static Token of(TokenType type, String value, TokenMeta meta, int symbol, long number) {
+        return new Token(type, value, meta, symbol, number);
+    }
+
     /**
      * Create a new token with the specified type.
      * @param type token type
@@ -0,0 +1,530 @@
+package org.voidlang.compiler.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a compact list of tokens, that stores the properties of the tokens in parallel arrays,
+ * instead of holding a {@link Token} and a {@link TokenMeta} object for each token.
+ * <br>
+ * The values of the tokens are not copied, they are sliced from the source data when they are requested.
+ * Only the tokens, whose value differs from their range in the source, such as string literals,
+ * number literals with a suffix and the inserted semicolons, store their value explicitly.
+ * <br>
+ * The identifiers, keywords and operators also hold their id in the {@link SymbolTable} of the compilation,
+ * and their values are resolved from the symbol table, without slicing the source data.
+ */
+public class TokenStream {
+    /**
+     * The token types by their ordinals.
+     */
+    private static final TokenType[] TYPES = TokenType.values();
+
+    /**
+     * The initial capacity of the arrays.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The source data that the values of the tokens are sliced from, or null if every value is stored explicitly.
+     */
+    @Getter
+    @Nullable
+    private final char[] source;
+
+    /**
+     * The symbol table that the symbols of the tokens are interned in, or null if the tokens have no symbols.
+     */
+    @Getter
+    @Nullable
+    private final SymbolTable symbolTable;
+
+    /**
+     * The ordinals of the token types.
+     */
+    private byte[] types;
+
+    /**
+     * The beginning and ending indices of the tokens in the source data.
+     */
+    private int[] begins, ends;
+
+    /**
+     * The line numbers and the indices in the line of the tokens.
+     */
+    private int[] lines, columns;
+
+    /**
+     * The symbol ids of the tokens.
+     */
+    private int[] symbols;
+
+    /**
+     * The explicit values of the tokens, that is only allocated, once a value differs from the source data.
+     */
+    @Nullable
+    private String[] values;
+
+    /**
+     * The decoded values of the number literal tokens, that is only allocated, once a literal is not zero.
+     */
+    private long @Nullable [] numbers;
+
+    /**
+     * The number of the tokens in the stream.
+     */
+    private int size;
+
+    /**
+     * The number of the leading tokens, that have been reused from the previous tokens of an edited source.
+     */
+    @Getter
+    @Setter
+    private int reusedPrefix;
+
+    /**
+     * The number of the trailing tokens, that have been reused from the previous tokens of an edited source.
+     */
+    @Getter
+    @Setter
+    private int reusedSuffix;
+
+    /**
+     * Initialize the token stream.
+     * @param source the source data that the values of the tokens are sliced from
+     */
+    public TokenStream(@Nullable char[] source) {
+        this(source, null);
+    }
+
+    /**
+     * Initialize the token stream.
+     * @param source the source data that the values of the tokens are sliced from
+     * @param symbolTable the symbol table that the symbols of the tokens are interned in
+     */
+    public TokenStream(@Nullable char[] source, @Nullable SymbolTable symbolTable) {
+        this.source = source;
+        this.symbolTable = symbolTable;
+        symbols = new int[INITIAL_CAPACITY];
+        types = new byte[INITIAL_CAPACITY];
+        begins = new int[INITIAL_CAPACITY];
+        ends = new int[INITIAL_CAPACITY];
+        lines = new int[INITIAL_CAPACITY];
+        columns = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Create a token stream of the specified tokens, that stores the value of each token explicitly.
+     * @param tokens the tokens to be stored
+     * @return a new token stream
+     */
+    public static TokenStream of(List<Token> tokens) {
+        TokenStream stream = new TokenStream(null);
+        for (Token token : tokens)
+            stream.add(token);
+        return stream.trim();
+    }
+
+    /**
+     * Append the specified token to the stream.
+     * @param token the token to be added
+     */
+    public void add(Token token) {
+        TokenMeta meta = token.getMeta();
+        if (meta == null)
+            add(token.getType(), token.getValue(), -1, -1, -1, -1, token.getNumber());
+        else
+            add(token.getType(), token.getValue(), meta.getBeginIndex(), meta.getEndIndex(), meta.getLineIndex(),
+                meta.getLineNumber(), token.getNumber());
+    }
+
+    /**
+     * Indicate, whether the value of a token of the specified type is a symbol.
+     * @param type the type of the token
+     * @return true if the value is an identifier, a keyword or an operator
+     */
+    public static boolean isSymbol(TokenType type) {
+        return switch (type) {
+            case IDENTIFIER, TYPE, EXPRESSION, MODIFIER, BOOLEAN, INFO, NULL, OPERATOR, ANNOTATION, SEMICOLON -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Append a token to the stream.
+     * @param type the type of the token
+     * @param value the value of the token
+     * @param begin the beginning index of the token, or -1 if the token is not present in the source
+     * @param end the ending index of the token
+     * @param column the index of the first character of the token in its line
+     * @param line the number of the line of the token
+     */
+    public void add(TokenType type, String value, int begin, int end, int column, int line) {
+        add(type, value, begin, end, column, line, 0);
+    }
+
+    /**
+     * Append a token to the stream.
+     * @param type the type of the token
+     * @param value the value of the token
+     * @param begin the beginning index of the token, or -1 if the token is not present in the source
+     * @param end the ending index of the token
+     * @param column the index of the first character of the token in its line
+     * @param line the number of the line of the token
+     * @param number the decoded value of the number literal token
+     */
+    public void add(TokenType type, String value, int begin, int end, int column, int line, long number) {
+        // the value of a symbol is resolved from the symbol table, and the other values are not stored,
+        // if they can be sliced from the source data
+        int symbol = symbolTable != null && isSymbol(type) ? symbolTable.intern(value) : SymbolTable.NO_SYMBOL;
+        String explicit = symbol != SymbolTable.NO_SYMBOL || matchesSource(begin, end, value) ? null : value;
+        append((byte) type.ordinal(), begin, end, column, line, symbol, explicit, number);
+    }
+
+    /**
+     * Append a token to the stream, whose value is the range of the source data, without creating the value.
+     * @param type the type of the token
+     * @param begin the beginning index of the token in the source data
+     * @param end the ending index of the token
+     * @param column the index of the first character of the token in its line
+     * @param line the number of the line of the token
+     * @param symbol the symbol id of the token in the symbol table of the stream, or {@link SymbolTable#NO_SYMBOL}
+     * @param number the decoded value of the number literal token
+     */
+    public void add(TokenType type, int begin, int end, int column, int line, int symbol, long number) {
+        append((byte) type.ordinal(), begin, end, column, line, symbol, null, number);
+    }
+
+    /**
+     * Append the token of the specified stream at the given index to this stream.
+     * @param stream the stream to copy the token from
+     * @param index the index of the token in the stream
+     */
+    public void add(TokenStream stream, int index) {
+        // the value is resolved the same way, if the streams share their source and symbol table
+        if (stream.source != source || stream.symbolTable != symbolTable) {
+            add(stream.getType(index), stream.getValue(index), stream.begins[index], stream.ends[index],
+                stream.columns[index], stream.lines[index], stream.getNumber(index));
+            return;
+        }
+        append(stream.types[index], stream.begins[index], stream.ends[index], stream.columns[index],
+            stream.lines[index], stream.symbols[index], stream.values != null ? stream.values[index] : null,
+            stream.getNumber(index));
+    }
+
+    /**
+     * Append the token of the specified stream at the given index to this stream, at a shifted position.
+     * The token must have the same content at the shifted range of the source of this stream.
+     * @param stream the stream to copy the token from
+     * @param index the index of the token in the stream
+     * @param shift the difference of the position of the token in the source of this stream
+     * @param lineShift the difference of the line number of the token in the source of this stream
+     */
+    public void add(TokenStream stream, int index, int shift, int lineShift) {
+        int begin = stream.begins[index];
+        int end = stream.ends[index];
+        int line = stream.lines[index];
+        // the inserted tokens are not present in the source
+        if (begin >= 0) {
+            begin += shift;
+            end += shift;
+            line += lineShift;
+        }
+
+        if (stream.symbolTable != symbolTable) {
+            add(stream.getType(index), stream.getValue(index), begin, end, stream.columns[index], line,
+                stream.getNumber(index));
+            return;
+        }
+        append(stream.types[index], begin, end, stream.columns[index], line, stream.symbols[index],
+            stream.values != null ? stream.values[index] : null, stream.getNumber(index));
+    }
+
+    /**
+     * Append the tokens of the specified stream in the given range to this stream, at a shifted position.
+     * The tokens must have the same content at the shifted range of the source of this stream.
+     * @param stream the stream to copy the tokens from
+     * @param from the index of the first token to copy
+     * @param to the index after the last token to copy
+     * @param shift the difference of the position of the tokens in the source of this stream
+     * @param lineShift the difference of the line number of the tokens in the source of this stream
+     */
+    public void addAll(TokenStream stream, int from, int to, int shift, int lineShift) {
+        if (stream.symbolTable != symbolTable) {
+            for (int i = from; i < to; i++)
+                add(stream, i, shift, lineShift);
+            return;
+        }
+
+        int count = to - from;
+        if (size + count > types.length)
+            grow(Math.max(size + count, size * 2));
+
+        System.arraycopy(stream.types, from, types, size, count);
+        System.arraycopy(stream.begins, from, begins, size, count);
+        System.arraycopy(stream.ends, from, ends, size, count);
+        System.arraycopy(stream.columns, from, columns, size, count);
+        System.arraycopy(stream.lines, from, lines, size, count);
+        System.arraycopy(stream.symbols, from, symbols, size, count);
+
+        if (stream.values != null) {
+            if (values == null)
+                values = new String[types.length];
+            System.arraycopy(stream.values, from, values, size, count);
+        }
+        if (stream.numbers != null) {
+            if (numbers == null)
+                numbers = new long[types.length];
+            System.arraycopy(stream.numbers, from, numbers, size, count);
+        }
+
+        // the inserted tokens are not present in the source
+        if (shift != 0 || lineShift != 0) {
+            for (int i = size; i < size + count; i++) {
+                if (begins[i] < 0)
+                    continue;
+                begins[i] += shift;
+                ends[i] += shift;
+                lines[i] += lineShift;
+            }
+        }
+        size += count;
+    }
+
+    /**
+     * Append a token to the stream.
+     * @param type the ordinal of the token type
+     * @param begin the beginning index of the token
+     * @param end the ending index of the token
+     * @param column the index of the first character of the token in its line
+     * @param line the number of the line of the token
+     * @param symbol the symbol id of the token
+     * @param value the explicit value of the token, or null if the value is resolved from the symbol
+     * or sliced from the source data
+     * @param number the decoded value of the number literal token
+     */
+    private void append(
+        byte type, int begin, int end, int column, int line, int symbol, @Nullable String value, long number
+    ) {
+        if (size == types.length)
+            grow(Math.max(INITIAL_CAPACITY, size * 2));
+
+        types[size] = type;
+        begins[size] = begin;
+        ends[size] = end;
+        columns[size] = column;
+        lines[size] = line;
+        symbols[size] = symbol;
+
+        if (value != null) {
+            if (values == null)
+                values = new String[types.length];
+            values[size] = value;
+        }
+
+        if (number != 0) {
+            if (numbers == null)
+                numbers = new long[types.length];
+            numbers[size] = number;
+        }
+        size++;
+    }
+
+    /**
+     * Release the unused capacity of the arrays.
+     * @return this token stream
+     */
+    public TokenStream trim() {
+        if (size < types.length)
+            grow(size);
+        return this;
+    }
+
+    /**
+     * Get the number of the tokens in the stream.
+     * @return the size of the stream
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the type of the token at the given index.
+     * @param index the index of the token
+     * @return the type of the token, or {@link TokenType#NONE} if the index is out of bounds
+     */
+    public TokenType getType(int index) {
+        return index >= 0 && index < size ? TYPES[types[index]] : TokenType.NONE;
+    }
+
+    /**
+     * Get the value of the token at the given index.
+     * @param index the index of the token
+     * @return the value of the token
+     */
+    public String getValue(int index) {
+        if (symbols[index] != SymbolTable.NO_SYMBOL)
+            return symbolTable.getName(symbols[index]);
+        if (values != null && values[index] != null)
+            return values[index];
+        return new String(source, begins[index], ends[index] - begins[index]);
+    }
+
+    /**
+     * Get the symbol id of the token at the given index.
+     * @param index the index of the token
+     * @return the symbol of the token, or {@link SymbolTable#NO_SYMBOL} if the token is not a symbol
+     */
+    public int getSymbol(int index) {
+        return index >= 0 && index < size ? symbols[index] : SymbolTable.NO_SYMBOL;
+    }
+
+    /**
+     * Get the beginning index of the token at the given index in the source data.
+     * @param index the index of the token
+     * @return the beginning index of the token, or -1 if the token is not present in the source
+     */
+    public int getBegin(int index) {
+        return begins[index];
+    }
+
+    /**
+     * Get the ending index of the token at the given index in the source data.
+     * @param index the index of the token
+     * @return the ending index of the token
+     */
+    public int getEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Get the line number of the token at the given index.
+     * @param index the index of the token
+     * @return the number of the line of the token
+     */
+    public int getLine(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Get the index of the first character of the token at the given index in its line.
+     * @param index the index of the token
+     * @return the column of the token
+     */
+    public int getColumn(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Get the decoded value of the number literal token at the given index.
+     * @param index the index of the token
+     * @return the decoded value of the literal, or 0 if the token is not a number literal
+     */
+    public long getNumber(int index) {
+        return numbers != null ? numbers[index] : 0;
+    }
+
+    /**
+     * Indicate, whether the token at the given index has the specified type.
+     * @param index the index of the token
+     * @param type the type to check
+     * @return true if the token has the type
+     */
+    public boolean is(int index, TokenType type) {
+        return getType(index) == type;
+    }
+
+    /**
+     * Indicate, whether the token at the given index has the specified type and value,
+     * without creating the value of the token.
+     * @param index the index of the token
+     * @param type the type to check
+     * @param value the value to check
+     * @return true if the token has the type and the value
+     */
+    public boolean is(int index, TokenType type, String value) {
+        if (getType(index) != type)
+            return false;
+        if (symbols[index] != SymbolTable.NO_SYMBOL)
+            return symbolTable.getName(symbols[index]).equals(value);
+        if (values != null && values[index] != null)
+            return values[index].equals(value);
+        return matchesSource(begins[index], ends[index], value);
+    }
+
+    /**
+     * Indicate, whether the token at the given index has the specified type and predefined symbol.
+     * The symbols are compared by their ids, if the stream has a symbol table.
+     * @param index the index of the token
+     * @param type the type to check
+     * @param symbol the symbol to check
+     * @return true if the token has the type and the symbol
+     */
+    public boolean is(int index, TokenType type, Symbol symbol) {
+        if (symbolTable == null || !isSymbol(type))
+            return is(index, type, symbol.getName());
+        return getType(index) == type && symbols[index] == symbol.getId();
+    }
+
+    /**
+     * Create a token object of the token at the given index.
+     * @param index the index of the token
+     * @return the token at the index
+     */
+    public Token get(int index) {
+        TokenMeta meta = begins[index] < 0
+            ? null
+            : new TokenMeta(begins[index], ends[index], columns[index], lines[index]);
+        return Token.of(getType(index), getValue(index), meta, symbols[index], getNumber(index));
+    }
+
+    /**
+     * Create a list of token objects of the tokens in the stream.
+     * @return the tokens of the stream
+     */
+    public List<Token> toList() {
+        List<Token> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            tokens.add(get(i));
+        return tokens;
+    }
+
+    /**
+     * Indicate, whether the source data in the specified range equals to the value.
+     * @param begin the beginning index of the range
+     * @param end the ending index of the range
+     * @param value the value to compare with
+     * @return true if the range of the source data is the same as the value
+     */
+    private boolean matchesSource(int begin, int end, String value) {
+        if (source == null || begin < 0 || end - begin != value.length())
+            return false;
+        for (int i = 0; i < value.length(); i++) {
+            if (source[begin + i] != value.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resize the arrays of the stream to the specified capacity.
+     * @param capacity the new capacity of the arrays
+     */
+    private void grow(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        begins = Arrays.copyOf(begins, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        symbols = Arrays.copyOf(symbols, capacity);
+        if (values != null)
+            values = Arrays.copyOf(values, capacity);
+        if (numbers != null)
+            numbers = Arrays.copyOf(numbers, capacity);
+    }
+}
@@ -2,9 +2,15 @@ package org.voidlang.compiler.token;
 
 import dev.inventex.octa.console.ConsoleFormat;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jetbrains.annotations.Nullable;
 import org.voidlang.compiler.util.Error;
+import org.voidlang.compiler.util.PanicException;
+import org.voidlang.compiler.util.Validate;
 
 import java.io.File;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
 /**
  * Represents a utility that parses raw string input to tokens.
@@ -16,6 +22,105 @@ public class Tokenizer {
      */
     private static final int MAX_ERROR_LINE_LENGTH = 30;
 
+    /**
+     * The shared new line token, that is returned, when the semicolons are inserted by the tokenizer,
+     * as the new line tokens are not stored in that case.
+     */
+    private static final Token LINE_BREAK = Token.of(TokenType.NEW_LINE);
+
+    /**
+     * The powers of ten, that are exactly representable as a double.
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * The largest power of ten, that is exactly representable as a float.
+     */
+    private static final int MAX_FLOAT_EXACT_POWER = 10;
+
+    /**
+     * The initial capacity of the table of the identifier spellings, that must be a power of two.
+     */
+    private static final int INITIAL_SPELLINGS = 256;
+
+    /**
+     * The character classes of the ASCII characters, that are used by the table-driven lexer.
+     */
+    private static final byte WHITESPACE = 1;
+    private static final byte IDENTIFIER_PART = 2;
+    private static final byte DIGIT = 4;
+    private static final byte NUMBER_CONTENT = 8;
+
+    /**
+     * The kinds of tokens, that an ASCII character may begin.
+     */
+    private static final byte INVALID = 0;
+    private static final byte IDENTIFIER = 1;
+    private static final byte OPERATOR = 2;
+    private static final byte SEPARATOR = 3;
+    private static final byte NUMBER = 4;
+    private static final byte OTHER = 5;
+
+    /**
+     * The character classes of each ASCII character.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    /**
+     * The kind of the token, that each ASCII character begins.
+     */
+    private static final byte[] KINDS = new byte[128];
+
+    /**
+     * The single-character values of the operator and separator tokens.
+     */
+    private static final String[] SYMBOLS = new String[128];
+
+    /**
+     * The token types of the separator characters.
+     */
+    private static final TokenType[] SEPARATORS = new TokenType[128];
+
+    static {
+        // the tables are derived from the character predicates, so that both lexer modes classify the same way
+        for (char c = 0; c < 128; c++) {
+            if (isWhitespace(c))
+                CLASSES[c] |= WHITESPACE;
+            if (isIdentifierPart(c))
+                CLASSES[c] |= IDENTIFIER_PART;
+            if (c >= '0' && c <= '9')
+                CLASSES[c] |= DIGIT;
+            if (isNumberContent(upper(c)))
+                CLASSES[c] |= NUMBER_CONTENT;
+
+            if (isIdentifierStart(c))
+                KINDS[c] = IDENTIFIER;
+            else if (isOperator(c))
+                KINDS[c] = OPERATOR;
+            else if (isSeparator(c))
+                KINDS[c] = SEPARATOR;
+            else if (isNumber(c))
+                KINDS[c] = NUMBER;
+            else if (isString(c) || isChar(c) || isAnnotation(c))
+                KINDS[c] = OTHER;
+
+            SYMBOLS[c] = String.valueOf(c);
+        }
+
+        SEPARATORS[';'] = TokenType.SEMICOLON;
+        SEPARATORS[':'] = TokenType.COLON;
+        SEPARATORS[','] = TokenType.COMMA;
+        SEPARATORS['{'] = TokenType.BEGIN;
+        SEPARATORS['}'] = TokenType.END;
+        SEPARATORS['('] = TokenType.OPEN;
+        SEPARATORS[')'] = TokenType.CLOSE;
+        SEPARATORS['['] = TokenType.START;
+        SEPARATORS[']'] = TokenType.STOP;
+    }
+
     /**
      * The file that is being parsed.
      */
@@ -24,7 +129,31 @@ public class Tokenizer {
     /**
      * The input data of the tokenizer.
      */
-    private final String data;
+    private final char[] data;
+
+    /**
+     * The number of characters of the input data.
+     */
+    private final int length;
+
+    /**
+     * Indicate, whether the tokens are scanned using the character class tables, instead of the predicates.
+     */
+    @Setter
+    private boolean tableDriven;
+
+    /**
+     * Indicate, whether the semicolons are inserted at the end of the lines, while the tokens are parsed,
+     * instead of putting new line tokens into the token stream for the {@link Transformer}.
+     */
+    @Setter
+    private boolean insertSemicolons;
+
+    /**
+     * Indicate, whether the last token may end a statement, and whether a new line has followed it,
+     * when the semicolons are inserted by the tokenizer.
+     */
+    private boolean required, pending;
 
     /**
      * The current index of currently parsed character.
@@ -56,11 +185,268 @@ public class Tokenizer {
      */
     private int beginIndex;
 
+    /**
+     * The symbol table that the symbols of the scanned tokens are interned in, or null if they have no symbols.
+     */
+    @Nullable
+    private SymbolTable symbolTable;
+
+    /**
+     * The distinct spellings of the identifiers of the data in an open addressing table, so that the value
+     * of an identifier is only copied from the data, when the spelling occurs for the first time.
+     */
+    private String[] spellings = new String[INITIAL_SPELLINGS];
+
+    /**
+     * The token types of the identifier spellings.
+     */
+    private TokenType[] spellingTypes = new TokenType[INITIAL_SPELLINGS];
+
+    /**
+     * The symbol ids of the identifier spellings in the symbol table.
+     */
+    private int[] spellingSymbols = new int[INITIAL_SPELLINGS];
+
+    /**
+     * The number of the identifier spellings in the table.
+     */
+    private int spellingCount;
+
+    /**
+     * The type of the last token, that has been scanned without creating a token object.
+     */
+    private TokenType scannedType;
+
+    /**
+     * The value of the scanned token, that is shared by the tokens of the same spelling,
+     * or null if the value is only present in the data.
+     */
+    @Nullable
+    private String scannedValue;
+
+    /**
+     * The symbol id of the scanned token.
+     */
+    private int scannedSymbol;
+
+    /**
+     * The decoded value of the scanned number literal token.
+     */
+    private long scannedNumber;
+
+    /**
+     * Initialize the tokenizer for the specified source code.
+     * @param file the file that is being parsed
+     * @param data the source code of the file
+     */
+    public Tokenizer(File file, String data) {
+        this(file, data.toCharArray(), data.length());
+    }
+
+    /**
+     * Initialize the tokenizer for the characters of the specified buffer, without copying them.
+     * @param file the file that is being parsed
+     * @param data the source code of the file, from its position up to its limit
+     */
+    public Tokenizer(File file, CharBuffer data) {
+        this(file, data.hasArray() && data.position() == 0 && data.arrayOffset() == 0
+            ? data.array()
+            : data.toString().toCharArray(), data.remaining());
+    }
+
+    /**
+     * Parse all the tokens of the data into a compact token stream, until the end of the data
+     * or an unexpected token is reached.
+     * @return the token stream of the data
+     */
+    public TokenStream tokenize() {
+        return tokenize(null);
+    }
+
+    /**
+     * Parse all the tokens of the data into a compact token stream, until the end of the data
+     * or an unexpected token is reached, and intern the identifiers, keywords and operators of the data.
+     * <br>
+     * If the semicolons are inserted by the tokenizer, the new lines are resolved as soon as the next token
+     * is parsed, using the rules of the {@link Transformer}, therefore the stream is ready to be parsed.
+     * @param symbolTable the symbol table of the compilation, or null to not assign symbols to the tokens
+     * @return the token stream of the data
+     */
+    public TokenStream tokenize(@Nullable SymbolTable symbolTable) {
+        TokenStream stream = new TokenStream(data, symbolTable);
+        useSymbolTable(symbolTable);
+        TokenType type;
+
+        do {
+            type = scan(stream);
+        } while (hasNext(type));
+
+        return stream.trim();
+    }
+
+    /**
+     * Parse all the tokens of the data, that is an edited version of the source of the previous tokens.
+     * <br>
+     * The tokens before the edit are reused, and the data is tokenized again from the last token,
+     * that is not affected by the edit. Once a new token after the edit is the same as a previous token,
+     * the rest of the previous tokens are reused, moved by the length difference of the edit.
+     * The number of the reused leading and trailing tokens is recorded in the returned stream.
+     * The previous tokens must have been parsed in the same mode, with the same symbol table.
+     * @param previous the tokens of the previous version of the data
+     * @param symbolTable the symbol table of the compilation, or null to not assign symbols to the tokens
+     * @return the token stream of the data
+     */
+    public TokenStream tokenize(TokenStream previous, @Nullable SymbolTable symbolTable) {
+        char[] source = previous.getSource();
+        int last = previous.size() - 1;
+        if (source == null || !previous.is(last, TokenType.FINISH) || previous.getSymbolTable() != symbolTable)
+            return tokenize(symbolTable);
+
+        // determine the edited region, by the common prefix and suffix of the previous and the current data
+        int previousLength = previous.getEnd(last);
+        int limit = Math.min(previousLength, length);
+        int prefix = 0;
+        while (prefix < limit && source[prefix] == data[prefix])
+            prefix++;
+        int suffix = 0;
+        while (suffix < limit - prefix && source[previousLength - suffix - 1] == data[length - suffix - 1])
+            suffix++;
+        int editEnd = length - suffix;
+        int shift = length - previousLength;
+
+        // find the last token, that ends before the edit, as the scanning of a token might depend on
+        // the character after it, or start from the beginning of the data, if there is no such token
+        int restart = -1;
+        for (int i = 0; i < last && previous.getEnd(i) < prefix; i++) {
+            if (isBoundary(previous, i))
+                restart = i;
+        }
+
+        TokenStream stream = new TokenStream(data, symbolTable);
+        useSymbolTable(symbolTable);
+        if (restart >= 0) {
+            stream.addAll(previous, 0, restart, 0, 0);
+            stream.setReusedPrefix(restart);
+            cursor = previous.getBegin(restart);
+            lineNumber = previous.getLine(restart);
+            lineIndex = previous.getColumn(restart);
+        }
+
+        int next = Math.max(restart, 0);
+        TokenType type;
+
+        do {
+            type = scan(stream);
+
+            // the tokens inside the edited region cannot re-synchronize with the previous tokens
+            if (type == TokenType.NEW_LINE || type == TokenType.FINISH || beginIndex < editEnd)
+                continue;
+
+            int begin = beginIndex - shift;
+            while (next < last && (!isBoundary(previous, next) || previous.getBegin(next) < begin))
+                next++;
+
+            // the state of the tokenizer after the token is the same as it was after the previous token,
+            // if the previous token has the same type, range and column, therefore the rest of the tokens
+            // would be the same as well, apart from their positions
+            boolean synced = next < last
+                && previous.getBegin(next) == begin
+                && previous.getEnd(next) == cursor - shift
+                && previous.getColumn(next) == tokenLineIndex
+                && previous.is(next, type);
+            if (!synced)
+                continue;
+
+            int lineShift = tokenLineNumber - previous.getLine(next);
+            stream.addAll(previous, next + 1, last + 1, shift, lineShift);
+            stream.setReusedSuffix(last - next);
+            break;
+        } while (hasNext(type));
+
+        return stream.trim();
+    }
+
+    /**
+     * Indicate, whether the token at the given index can be used to restart the tokenizer from, or
+     * to re-synchronize the tokens with. The inserted semicolons are not present in the source,
+     * and the new line and finish tokens do not record their own position.
+     * @param stream the token stream
+     * @param index the index of the token
+     * @return true if the position of the token is recorded
+     */
+    private static boolean isBoundary(TokenStream stream, int index) {
+        return stream.getBegin(index) >= 0
+            && !stream.is(index, TokenType.NEW_LINE)
+            && !stream.is(index, TokenType.FINISH);
+    }
+
+    /**
+     * Indicate, whether more tokens may follow a token of the specified type.
+     * @param type the type of the token
+     * @return true if the token does not end the data
+     */
+    private static boolean hasNext(TokenType type) {
+        return type != TokenType.UNEXPECTED && type != TokenType.FINISH;
+    }
+
+    /**
+     * Forget the identifier spellings, if their symbols have been interned in a different symbol table.
+     * @param symbolTable the symbol table of the scanned tokens
+     */
+    private void useSymbolTable(@Nullable SymbolTable symbolTable) {
+        if (symbolTable == this.symbolTable)
+            return;
+        this.symbolTable = symbolTable;
+        Arrays.fill(spellings, null);
+        spellingCount = 0;
+    }
+
+    /**
+     * Parse the next token into the stream. If the semicolons are inserted by the tokenizer, the new lines
+     * are resolved as soon as the next token is parsed, using the rules of the {@link Transformer}.
+     * <br>
+     * The common tokens are written into the stream by the table-driven lexer without creating a token object,
+     * and their position is left in the fields of the tokenizer.
+     * @param stream the stream to append the token to
+     * @return the type of the parsed token
+     */
+    private TokenType scan(TokenStream stream) {
+        Token token = tableDriven ? scanFromTable() : next();
+        TokenType type = token != null ? token.getType() : scannedType;
+
+        if (insertSemicolons) {
+            String value = token != null ? token.getValue() : scannedValue;
+
+            // place a semicolon at the previous new line, if the token after the new line does not continue
+            // the statement of the previous line
+            if (pending && !Transformer.isForbiddenAfter(type, value))
+                stream.add(TokenType.SEMICOLON, "auto", -1, -1, -1, -1);
+
+            if (type == TokenType.NEW_LINE) {
+                pending = required;
+                required = false;
+                return type;
+            }
+
+            required = Transformer.isRequiredBefore(type, value);
+            pending = false;
+        }
+
+        if (token != null)
+            stream.add(token);
+        else
+            stream.add(type, beginIndex, cursor, tokenLineIndex, tokenLineNumber, scannedSymbol, scannedNumber);
+        return type;
+    }
+
     /**
      * Parse the next token from the data.
      * @return next parsed token
      */
     public Token next() {
+        if (tableDriven)
+            return nextFromTable();
+
         // ignore all whitespaces from the content
         while (isWhitespace(peek())) {
             // handle new line
@@ -69,7 +455,7 @@ public class Tokenizer {
                 lineIndex = 0;
                 lineNumber++;
                 // make a new line token to be replaced later to semicolons
-                return makeToken(TokenType.NEW_LINE);
+                return makeLineBreak();
             }
         }
 
@@ -106,7 +492,7 @@ public class Tokenizer {
                 lineIndex = 0;
                 lineNumber++;
                 // make a new line token to be replaced later to semicolons
-                return makeToken(TokenType.NEW_LINE);
+                return makeLineBreak();
             }
         }
 
@@ -150,6 +536,271 @@ public class Tokenizer {
         return makeToken(TokenType.UNEXPECTED);
     }
 
+    /**
+     * Parse the next token from the data using the character class tables.
+     * @return next parsed token
+     */
+    private Token nextFromTable() {
+        Token token = scanFromTable();
+        if (token != null)
+            return token;
+        return makeToken(scannedType, scannedValue != null ? scannedValue : range(beginIndex, cursor), scannedNumber);
+    }
+
+    /**
+     * Scan the next token from the data using the character class tables. The common tokens are scanned
+     * in tight loops over the data, and the rest of the tokens are parsed the same way as by {@link #next()}.
+     * @return the next parsed token, or null if the token has been scanned into the fields of the tokenizer
+     */
+    private @Nullable Token scanFromTable() {
+        Token newLine = skipWhitespace();
+        if (newLine != null)
+            return newLine;
+
+        // handle one line comments
+        if (peek() == '/' && at(cursor + 1) == '/') {
+            while (cursor < length && data[cursor] != '\n') {
+                cursor++;
+                lineIndex++;
+            }
+            lineIndex++;
+        }
+
+        // handle multiline comments, that do not count the lines, the same way as the predicate lexer
+        else if (peek() == '/' && at(cursor + 1) == '*') {
+            skip(2);
+            while (cursor < length && !(data[cursor] == '*' && at(cursor + 1) == '/')) {
+                cursor++;
+                lineIndex++;
+            }
+            skip(2);
+        }
+
+        newLine = skipWhitespace();
+        if (newLine != null)
+            return newLine;
+
+        // handle end of file
+        if (peek() == '\0')
+            return makeToken(TokenType.FINISH);
+
+        beginIndex = cursor;
+        tokenLineNumber = lineNumber;
+        tokenLineIndex = lineIndex;
+
+        char c = data[cursor];
+        // the tokens beginning with a non-ASCII character are rare, therefore they are parsed by the predicates
+        if (c >= 128)
+            return nextFromPredicates(c);
+
+        return switch (KINDS[c]) {
+            case IDENTIFIER -> c == 'u' && isNumber(at(cursor + 1)) ? nextIdentifier() : scanIdentifier();
+            case OPERATOR, SEPARATOR -> {
+                skip(1);
+                TokenType type = KINDS[c] == OPERATOR ? TokenType.OPERATOR : SEPARATORS[c];
+                int symbol = symbolTable != null && TokenStream.isSymbol(type)
+                    ? symbolTable.intern(SYMBOLS[c])
+                    : SymbolTable.NO_SYMBOL;
+                yield scanned(type, SYMBOLS[c], symbol, 0);
+            }
+            case NUMBER -> scanNumber();
+            default -> nextFromPredicates(c);
+        };
+    }
+
+    /**
+     * Skip the whitespaces of the data, until the end of the current line.
+     * @return a new line token, if a line separator has been reached, or null otherwise
+     */
+    private Token skipWhitespace() {
+        while (cursor < length) {
+            char c = data[cursor];
+            if (c >= 128 || (CLASSES[c] & WHITESPACE) == 0)
+                break;
+            cursor++;
+            lineIndex++;
+            if (c == '\n') {
+                lineIndex = 0;
+                lineNumber++;
+                return makeLineBreak();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scan the next identifier token in a tight loop, and look up its spelling by the hash of its characters.
+     * @return null, as the token is scanned into the fields of the tokenizer
+     */
+    private @Nullable Token scanIdentifier() {
+        int begin = cursor;
+        int end = cursor + 1;
+        // the hash is calculated the same way as the hash of the string of the identifier
+        int hash = data[begin];
+        while (end < length) {
+            char c = data[end];
+            if (c < 128 ? (CLASSES[c] & IDENTIFIER_PART) == 0 : !isIdentifierPart(c))
+                break;
+            hash = 31 * hash + c;
+            end++;
+        }
+
+        skip(end - begin);
+        int slot = findSpelling(begin, end, hash);
+        if (spellings[slot] == null)
+            slot = addSpelling(slot, begin, end);
+        return scanned(spellingTypes[slot], spellings[slot], spellingSymbols[slot], 0);
+    }
+
+    /**
+     * Find the slot of the identifier spelling of the data in the specified range.
+     * @param begin the beginning index of the identifier
+     * @param end the ending index of the identifier
+     * @param hash the hash of the characters of the identifier
+     * @return the slot of the spelling, or the empty slot, that the spelling should be placed at
+     */
+    private int findSpelling(int begin, int end, int hash) {
+        int mask = spellings.length - 1;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (true) {
+            String spelling = spellings[slot];
+            if (spelling == null || (spelling.hashCode() == hash && matches(spelling, begin, end)))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Register the identifier spelling of the data in the specified range, and intern it in the symbol table.
+     * @param slot the empty slot of the spelling
+     * @param begin the beginning index of the identifier
+     * @param end the ending index of the identifier
+     * @return the slot of the registered spelling
+     */
+    private int addSpelling(int slot, int begin, int end) {
+        String spelling = range(begin, end);
+        int symbol = SymbolTable.NO_SYMBOL;
+        if (symbolTable != null) {
+            symbol = symbolTable.intern(spelling);
+            spelling = symbolTable.getName(symbol);
+        }
+
+        spellings[slot] = spelling;
+        spellingTypes[slot] = getIdentifierType(spelling);
+        spellingSymbols[slot] = symbol;
+
+        // keep the table at most half full, so that the probe sequences stay short
+        if (++spellingCount * 2 <= spellings.length)
+            return slot;
+
+        String[] oldSpellings = spellings;
+        TokenType[] oldTypes = spellingTypes;
+        int[] oldSymbols = spellingSymbols;
+        spellings = new String[oldSpellings.length * 2];
+        spellingTypes = new TokenType[spellings.length];
+        spellingSymbols = new int[spellings.length];
+
+        int mask = spellings.length - 1;
+        for (int i = 0; i < oldSpellings.length; i++) {
+            if (oldSpellings[i] == null)
+                continue;
+            int hash = oldSpellings[i].hashCode();
+            int index = (hash ^ hash >>> 16) & mask;
+            while (spellings[index] != null)
+                index = (index + 1) & mask;
+            spellings[index] = oldSpellings[i];
+            spellingTypes[index] = oldTypes[i];
+            spellingSymbols[index] = oldSymbols[i];
+        }
+        return findSpelling(begin, end, spelling.hashCode());
+    }
+
+    /**
+     * Indicate, whether the data in the specified range equals to the spelling.
+     * @param spelling the spelling to compare with
+     * @param begin the beginning index of the range
+     * @param end the ending index of the range
+     * @return true if the range of the data is the same as the spelling
+     */
+    private boolean matches(String spelling, int begin, int end) {
+        if (spelling.length() != end - begin)
+            return false;
+        for (int i = begin; i < end; i++) {
+            if (data[i] != spelling.charAt(i - begin))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record the properties of the token, that has been scanned without creating a token object.
+     * @param type the type of the token
+     * @param value the shared value of the token, or null if the value is only present in the data
+     * @param symbol the symbol id of the token
+     * @param number the decoded value of the number literal token
+     * @return null, as no token object has been created
+     */
+    private @Nullable Token scanned(TokenType type, @Nullable String value, int symbol, long number) {
+        scannedType = type;
+        scannedValue = value;
+        scannedSymbol = symbol;
+        scannedNumber = number;
+        return null;
+    }
+
+    /**
+     * Scan the next decimal integer token in a tight loop. Numbers with a prefix, a suffix, a decimal point
+     * or separators are parsed by {@link #nextNumber()} instead.
+     * @return null if the number is scanned into the fields of the tokenizer, or a new number token otherwise
+     */
+    private @Nullable Token scanNumber() {
+        int begin = cursor;
+        int end = cursor;
+        while (end < length && data[end] < 128 && (CLASSES[data[end]] & DIGIT) != 0)
+            end++;
+
+        char next = at(end);
+        boolean prefixed = data[begin] == '0' && (next == 'x' || next == 'b') && end == begin + 1;
+        if (prefixed || next >= 128 || (CLASSES[next] & NUMBER_CONTENT) != 0)
+            return nextNumber();
+
+        skip(end - begin);
+
+        // the digits of a valid literal are decoded in place, and the out of range literals are reported
+        // the same way as by the other number literals
+        long number = 0;
+        for (int i = begin; i < end && number <= Integer.MAX_VALUE; i++)
+            number = number * 10 + (data[i] - '0');
+        if (number > Integer.MAX_VALUE)
+            return makeInteger(TokenType.INTEGER, begin, end, range(begin, end));
+        return scanned(TokenType.INTEGER, null, SymbolTable.NO_SYMBOL, number);
+    }
+
+    /**
+     * Parse the next token, that begins with the specified character, using the character predicates.
+     * @param c the first character of the token
+     * @return next parsed token
+     */
+    private Token nextFromPredicates(char c) {
+        if (isIdentifierStart(c))
+            return nextIdentifier();
+        else if (isOperator(c))
+            return nextOperator();
+        else if (isSeparator(c))
+            return nextSeparator();
+        else if (isNumber(c))
+            return nextNumber();
+        else if (isString(c))
+            return nextString();
+        else if (isChar(c))
+            return nextChar();
+        else if (isAnnotation(c))
+            return nextAnnotation();
+
+        syntaxError(Error.INVALID_TOKEN, "unexpected token: `" + c + "`");
+        return makeToken(TokenType.UNEXPECTED);
+    }
+
     /**
      * Make a new token of the specified type and value.
      * @param type token type
@@ -160,6 +811,26 @@ public class Tokenizer {
         return Token.of(type, value, new TokenMeta(beginIndex, cursor, tokenLineIndex, tokenLineNumber));
     }
 
+    /**
+     * Make a new number token of the specified type, value and decoded number.
+     * @param type token type
+     * @param value token value
+     * @param number the decoded value of the number
+     * @return new token
+     */
+    private Token makeToken(TokenType type, String value, long number) {
+        TokenMeta meta = new TokenMeta(beginIndex, cursor, tokenLineIndex, tokenLineNumber);
+        return Token.of(type, value, meta, SymbolTable.NO_SYMBOL, number);
+    }
+
+    /**
+     * Make a new line token, or get the shared one, if the new lines are not stored in the token stream.
+     * @return new line token
+     */
+    private Token makeLineBreak() {
+        return insertSemicolons ? LINE_BREAK : makeToken(TokenType.NEW_LINE);
+    }
+
     /**
      * Make a new token of the specified type.
      * @param type token type
@@ -180,46 +851,36 @@ public class Tokenizer {
         // handle unsigned number literal
         if (peek() == 'u' && isNumber(at(cursor + 1))) {
             get();
-
-            Token token = nextNumber();
-
-            TokenType type = token.getType();
-            String value = token.getValue();
-
-            type = switch (type) {
-                case BYTE -> TokenType.UBYTE;
-                case SHORT -> TokenType.USHORT;
-                case INTEGER -> TokenType.UINTEGER;
-                case LONG -> TokenType.ULONG;
-                default -> {
-                    syntaxError(Error.INVALID_TOKEN, "invalid unsigned number literal: `" + value + "`");
-                    yield TokenType.UNEXPECTED;
-                }
-            };
-
-            return makeToken(type, value);
+            return nextNumber(true);
         }
 
         while (isIdentifierPart(peek()))
             get();
 
         String token = range(begin, cursor);
-        // determine the token type
-        TokenType type = TokenType.IDENTIFIER;
+        // make the identifier token
+        return makeToken(getIdentifierType(token), token);
+    }
+
+    /**
+     * Determine the type of the specified identifier, that might be a keyword.
+     * @param token the value of the identifier
+     * @return the type of the identifier token
+     */
+    private static TokenType getIdentifierType(String token) {
         if (isExpression(token))
-            type = TokenType.EXPRESSION;
+            return TokenType.EXPRESSION;
         else if (isType(token))
-            type = TokenType.TYPE;
+            return TokenType.TYPE;
         else if (isModifier(token))
-            type = TokenType.MODIFIER;
+            return TokenType.MODIFIER;
         else if (isBoolean(token))
-            type = TokenType.BOOLEAN;
+            return TokenType.BOOLEAN;
         else if (isInfo(token))
-            type = TokenType.INFO;
+            return TokenType.INFO;
         else if (isNull(token))
-            type = TokenType.NULL;
-        // make the identifier token
-        return makeToken(type, token);
+            return TokenType.NULL;
+        return TokenType.IDENTIFIER;
     }
 
     /**
@@ -257,6 +918,15 @@ public class Tokenizer {
      * @return new number token
      */
     public Token nextNumber() {
+        return nextNumber(false);
+    }
+
+    /**
+     * Parse the next number token, and decode the value of the number.
+     * @param unsigned true if the number is prefixed with the unsigned marker
+     * @return new number token
+     */
+    private Token nextNumber(boolean unsigned) {
         // get the beginning of the number content
         int begin = cursor;
         // determine if the number is integer
@@ -270,8 +940,7 @@ public class Tokenizer {
             while (isHexValue(peek()))
                 get();
             // make the hexadecimal number token
-            String value = range(begin, cursor);
-            return makeToken(TokenType.HEXADECIMAL, value);
+            return makeNumber(TokenType.HEXADECIMAL, begin, begin + 2, cursor, unsigned);
         }
 
         // handle binary number format
@@ -282,8 +951,7 @@ public class Tokenizer {
             while (isBinary(peek()))
                 get();
             // make the hexadecimal number token
-            String value = range(begin, cursor);
-            return makeToken(TokenType.BINARY, value);
+            return makeNumber(TokenType.BINARY, begin, begin + 2, cursor, unsigned);
         }
 
         // handle regular number
@@ -340,9 +1008,8 @@ public class Tokenizer {
 
                 // skip the type specifier
                 skip(1);
-                // get the value of the number
-                String value = range(begin, cursor - 1);
-                return makeToken(type, value);
+                // decode the value of the number
+                return makeNumber(type, begin, begin, cursor - 1, unsigned);
                 // TODO check if number declaration ended because a type specifier were set, 
                 //  but after the specifier there is no separator or whitespace eg. 1.5Flol
             }
@@ -354,9 +1021,176 @@ public class Tokenizer {
         // TODO validate that multiple underscores do not follow each other
         // TODO handle numbers starting with '.'
 
-        // get the value of the number
-        String value = range(begin, cursor);
-        return makeToken(integer ? TokenType.INTEGER : TokenType.DOUBLE, value);
+        // decode the value of the number
+        return makeNumber(integer ? TokenType.INTEGER : TokenType.DOUBLE, begin, begin, cursor, unsigned);
+    }
+
+    /**
+     * Make a new number token, and decode the value of the number from the data.
+     * @param type the type of the number
+     * @param begin the beginning index of the number
+     * @param digits the index of the first digit of the number, after the prefix
+     * @param end the ending index of the number, before the type suffix
+     * @param unsigned true if the number is prefixed with the unsigned marker
+     * @return new number token
+     */
+    private Token makeNumber(TokenType type, int begin, int digits, int end, boolean unsigned) {
+        String value = range(begin, end);
+
+        if (unsigned) {
+            type = switch (type) {
+                case BYTE -> TokenType.UBYTE;
+                case SHORT -> TokenType.USHORT;
+                case INTEGER -> TokenType.UINTEGER;
+                case LONG -> TokenType.ULONG;
+                default -> {
+                    syntaxError(Error.INVALID_TOKEN, "invalid unsigned number literal: `" + value + "`");
+                    yield TokenType.UNEXPECTED;
+                }
+            };
+        }
+
+        return switch (type) {
+            case UNEXPECTED -> makeToken(type, value);
+            case FLOAT, DOUBLE -> makeFloating(type, digits, end, value);
+            default -> makeInteger(type, digits, end, value);
+        };
+    }
+
+    /**
+     * Make a new integer number token, and decode its digits without creating intermediate strings.
+     * @param type the type of the number
+     * @param begin the index of the first digit of the number
+     * @param end the ending index of the digits
+     * @param value the value of the token
+     * @return new number token, or an unexpected token if the number is invalid or out of range
+     */
+    private Token makeInteger(TokenType type, int begin, int end, String value) {
+        int radix = switch (type) {
+            case HEXADECIMAL -> 16;
+            case BINARY -> 2;
+            default -> 10;
+        };
+
+        long number = 0;
+        boolean empty = true;
+        boolean overflow = false;
+
+        for (int i = begin; i < end; i++) {
+            char c = data[i];
+            if (c == '_')
+                continue;
+
+            int digit = Character.digit(c, radix);
+            if (digit < 0) {
+                tokenLineIndex += i - beginIndex;
+                syntaxError(
+                    Error.INVALID_NUMBER_LITERAL,
+                    "invalid digit `" + c + "` in number literal `" + value + "`"
+                );
+                return makeToken(TokenType.UNEXPECTED, value);
+            }
+
+            // the digits are accumulated as an unsigned 64-bit value, check if the next digit would not fit,
+            // that is only possible once the value has more than 59 bits
+            if (number >>> 59 != 0 && Long.compareUnsigned(number, Long.divideUnsigned(-1L - digit, radix)) > 0)
+                overflow = true;
+            number = number * radix + digit;
+            empty = false;
+        }
+
+        if (empty) {
+            syntaxError(Error.INVALID_NUMBER_LITERAL, "number literal `" + value + "` has no digits");
+            return makeToken(TokenType.UNEXPECTED, value);
+        }
+
+        if (overflow || Long.compareUnsigned(number, getMaxValue(type)) > 0) {
+            syntaxError(
+                Error.NUMBER_OUT_OF_RANGE,
+                "`" + type.name().toLowerCase() + "` literal is out of range: `" + value + "`"
+            );
+            return makeToken(TokenType.UNEXPECTED, value);
+        }
+
+        return makeToken(type, value, number);
+    }
+
+    /**
+     * Make a new floating-point number token, and decode its value. Numbers, that have a small amount
+     * of digits, are decoded directly from the data, and the other numbers are decoded by the JDK.
+     * @param type the type of the number
+     * @param begin the index of the first digit of the number
+     * @param end the ending index of the digits
+     * @param value the value of the token
+     * @return new number token, or an unexpected token if the number is invalid or out of range
+     */
+    private Token makeFloating(TokenType type, int begin, int end, String value) {
+        long mantissa = 0;
+        int scale = 0;
+        boolean fraction = false;
+        boolean exact = true;
+
+        for (int i = begin; i < end && exact; i++) {
+            char c = data[i];
+            if (c == '_')
+                continue;
+            if (c == '.') {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9' || mantissa >= 1L << 53) {
+                exact = false;
+                break;
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            if (fraction)
+                scale++;
+        }
+
+        // the mantissa and the power of ten are represented exactly, therefore a single division
+        // rounds the same way, as parsing the decimal number
+        double number;
+        if (type == TokenType.FLOAT && exact && mantissa < 1L << 24 && scale <= MAX_FLOAT_EXACT_POWER)
+            number = (float) mantissa / (float) POWERS_OF_TEN[scale];
+        else if (type == TokenType.DOUBLE && exact && mantissa < 1L << 53 && scale < POWERS_OF_TEN.length)
+            number = mantissa / POWERS_OF_TEN[scale];
+        else {
+            try {
+                String digits = value.replace("_", "");
+                number = type == TokenType.FLOAT ? Float.parseFloat(digits) : Double.parseDouble(digits);
+            } catch (NumberFormatException e) {
+                syntaxError(Error.INVALID_NUMBER_LITERAL, "invalid number literal `" + value + "`");
+                return makeToken(TokenType.UNEXPECTED, value);
+            }
+        }
+
+        if (Double.isInfinite(number)) {
+            syntaxError(
+                Error.NUMBER_OUT_OF_RANGE,
+                "`" + type.name().toLowerCase() + "` literal is out of range: `" + value + "`"
+            );
+            return makeToken(TokenType.UNEXPECTED, value);
+        }
+
+        return makeToken(type, value, Double.doubleToRawLongBits(number));
+    }
+
+    /**
+     * Get the largest unsigned value of the specified integer literal type.
+     * @param type the type of the literal
+     * @return the maximum value of the literal
+     */
+    private static long getMaxValue(TokenType type) {
+        return switch (type) {
+            case BYTE -> Byte.MAX_VALUE;
+            case UBYTE -> 0xFFL;
+            case SHORT -> Short.MAX_VALUE;
+            case USHORT -> 0xFFFFL;
+            case INTEGER -> Integer.MAX_VALUE;
+            case UINTEGER -> 0xFFFFFFFFL;
+            case LONG -> Long.MAX_VALUE;
+            default -> -1L;
+        };
     }
 
     /**
@@ -517,7 +1351,7 @@ public class Tokenizer {
      * @return character at the index or '\0' if it is out of the bounds
      */
     private char at(int index) {
-        return has(index) ? data.charAt(index) : '\0';
+        return has(index) ? data[index] : '\0';
     }
 
     /**
@@ -526,7 +1360,7 @@ public class Tokenizer {
      * @return true if the index is in the parsed data
      */
     private boolean has(int index) {
-        return index >= 0 && index < data.length();
+        return index >= 0 && index < length;
     }
 
     /**
@@ -535,7 +1369,7 @@ public class Tokenizer {
      * @param end data range finish index
      */
     private String range(int begin, int end) {
-        return data.substring(begin, end);
+        return new String(data, begin, end - begin);
     }
 
     /**
@@ -543,7 +1377,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a whitespace
      */
-    private boolean isWhitespace(char c) {
+    private static boolean isWhitespace(char c) {
         return switch (c) {
             case ' ', '\t', '\r', '\n' -> true;
             default -> false;
@@ -555,7 +1389,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is an identifier beginning
      */
-    private boolean isIdentifierStart(char c) {
+    private static boolean isIdentifierStart(char c) {
         return Character.isJavaIdentifierStart(c);
     }
 
@@ -564,7 +1398,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is an identifier part
      */
-    private boolean isIdentifierPart(char c) {
+    private static boolean isIdentifierPart(char c) {
         return Character.isJavaIdentifierPart(c);
     }
 
@@ -573,7 +1407,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is numeric
      */
-    private boolean isNumber(char c) {
+    private static boolean isNumber(char c) {
         return Character.isDigit(c);
     }
 
@@ -582,7 +1416,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a string beginning
      */
-    private boolean isString(char c) {
+    private static boolean isString(char c) {
         return c == '"';
     }
 
@@ -591,7 +1425,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a char beginning
      */
-    private boolean isChar(char c) {
+    private static boolean isChar(char c) {
         return c == '\'';
     }
 
@@ -600,7 +1434,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is an annotation beginning
      */
-    private boolean isAnnotation(char c) {
+    private static boolean isAnnotation(char c) {
         return c == '@';
     }
 
@@ -609,7 +1443,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a number suffix
      */
-    private boolean isNumberSuffix(char c) {
+    private static boolean isNumberSuffix(char c) {
         return switch (c) {
             case 'B', 'S', 'I', 'L', 'F', 'D' -> true;
             default -> false;
@@ -621,7 +1455,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a hexadecimal char
      */
-    private boolean isHexValue(char c) {
+    private static boolean isHexValue(char c) {
         return switch (c) {
             case 'A', 'B', 'C', 'D', 'E', 'F' -> true;
             default -> isNumber(c);
@@ -633,7 +1467,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a binary char
      */
-    private boolean isBinary(char c) {
+    private static boolean isBinary(char c) {
         return switch (c) {
             case '0', '1' -> true;
             default -> false;
@@ -645,7 +1479,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a number content
      */
-    private boolean isNumberContent(char c) {
+    private static boolean isNumberContent(char c) {
         return switch (c) {
             case '.', '_' -> true;
             default -> isHexValue(c) || isNumberSuffix(c);
@@ -657,7 +1491,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is an operator
      */
-    private boolean isOperator(char c) {
+    private static boolean isOperator(char c) {
         return switch (c) {
             case '.', '=', '+', '-', '*', '/', '<', '>', '?', '!', '^', '&', '~', '$', '|', '%' -> true;
             default -> false;
@@ -669,7 +1503,7 @@ public class Tokenizer {
      * @param c target character to test
      * @return true if the character is a separator
      */
-    private boolean isSeparator(char c) {
+    private static boolean isSeparator(char c) {
         return switch (c) {
             case ';', ':', ',', '{', '}', '(', ')', '[', ']' -> true;
             default -> false;
@@ -681,7 +1515,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is an expression
      */
-    private boolean isExpression(String token) {
+    private static boolean isExpression(String token) {
         return switch (token) {
             case "new", "class", "enum", "union", "struct", "interface", "for", "while", "repeat", "do",
                 "if", "else", "switch", "case", "loop", "continue", "break", "return", "await", "goto",
@@ -695,7 +1529,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is a type
      */
-    private boolean isType(String token) {
+    private static boolean isType(String token) {
         return switch (token) {
             case "let", "mut", "ref", "deref", "byte", "ubyte", "short", "ushort", "int", "uint", "double", "udouble",
                 "float", "ufloat", "long", "ulong", "void", "bool", "char", "string" -> true;
@@ -708,7 +1542,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is a modifier
      */
-    private boolean isModifier(String token) {
+    private static boolean isModifier(String token) {
         return switch (token) {
             case "public", "protected", "private", "static", "final", "native", "extern", "transient",
                 "synchronized", "async", "const", "unsafe", "weak", "strong", "default" -> true;
@@ -721,7 +1555,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is a boolean
      */
-    private boolean isBoolean(String token) {
+    private static boolean isBoolean(String token) {
         return switch (token) {
             case "true", "false" -> true;
             default -> false;
@@ -733,7 +1567,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is an information
      */
-    private boolean isInfo(String token) {
+    private static boolean isInfo(String token) {
         return switch (token) {
             case "package", "import", "using" -> true;
             default -> false;
@@ -745,7 +1579,7 @@ public class Tokenizer {
      * @param token target token to test
      * @return true if the token is a null
      */
-    private boolean isNull(String token) {
+    private static boolean isNull(String token) {
         return switch (token) {
             case "null", "nullptr" -> true;
             default -> false;
@@ -757,7 +1591,7 @@ public class Tokenizer {
      * @param c target character to be transformer
      * @return uppercase representation of the character
      */
-    private char upper(char c) {
+    private static char upper(char c) {
         return Character.toUpperCase(c);
     }
 
@@ -766,10 +1600,27 @@ public class Tokenizer {
      * @param c target character to be transformer
      * @return lowercase representation of the character
      */
-    private char lower(char c) {
+    private static char lower(char c) {
         return Character.toLowerCase(c);
     }
 
+    /**
+     * Get the content of the specified line of the data.
+     * @param number the number of the line, starting from 1
+     * @return the characters of the line, without the line separator
+     */
+    private String getLine(int number) {
+        int begin = 0;
+        for (int line = 1; line < number && begin < length; begin++) {
+            if (data[begin] == '\n')
+                line++;
+        }
+        int end = begin;
+        while (end < length && data[end] != '\n')
+            end++;
+        return range(begin, end);
+    }
+
     /**
      * Display a syntax error in the console with debug information.
      * @param message error message
@@ -787,7 +1638,7 @@ public class Tokenizer {
         System.err.print(" " + tokenLineNumber + " | ");
 
         // get the line of the error
-        String line = data.split("\n")[tokenLineNumber - 1];
+        String line = getLine(tokenLineNumber);
         // get the start and end index of the line
         int start = Math.max(0, tokenLineIndex - MAX_ERROR_LINE_LENGTH);
         int end = Math.min(line.length(), tokenLineIndex + MAX_ERROR_LINE_LENGTH);
@@ -797,8 +1648,11 @@ public class Tokenizer {
         // display the error pointer
         System.err.print(ConsoleFormat.CYAN + " ".repeat(lineSize + 1));
         System.err.println(" | " + " ".repeat(lineSize + (tokenLineIndex - start) - 1) + ConsoleFormat.RED + "^");
-        // exit the program with the error code
+        // abort the current build, if the compiler should survive the error
+        if (Validate.isRecoverable())
+            throw new PanicException(message, error.getCode());
 
+        // exit the program with the error code
         System.exit(error.getCode());
     }
 }
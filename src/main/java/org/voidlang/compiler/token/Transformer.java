@@ -1,98 +1,115 @@
 package org.voidlang.compiler.token;
 
-import java.util.ArrayList;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a token transformer that automatically inserts semicolons at the end of lines when it is required.
  */
 public class Transformer {
     /**
-     * The list of tokens required before the new line for the semicolon to be inserted.
+     * The types of the tokens required before the new line for the semicolon to be inserted.
+     * The operator and expression tokens are also required to have one of the {@link #REQUIRED_VALUES}.
      */
-    private final List<Token> requiredBefore = new ArrayList<>();
-    {
-        requiredBefore.add(Token.of(TokenType.IDENTIFIER));
-        requiredBefore.add(Token.of(TokenType.STRING));
-        requiredBefore.add(Token.of(TokenType.CHARACTER));
-        requiredBefore.add(Token.of(TokenType.BYTE));
-        requiredBefore.add(Token.of(TokenType.UBYTE));
-        requiredBefore.add(Token.of(TokenType.SHORT));
-        requiredBefore.add(Token.of(TokenType.USHORT));
-        requiredBefore.add(Token.of(TokenType.DOUBLE));
-        requiredBefore.add(Token.of(TokenType.FLOAT));
-        requiredBefore.add(Token.of(TokenType.LONG));
-        requiredBefore.add(Token.of(TokenType.ULONG));
-        requiredBefore.add(Token.of(TokenType.INTEGER));
-        requiredBefore.add(Token.of(TokenType.UINTEGER));
-        requiredBefore.add(Token.of(TokenType.HEXADECIMAL));
-        requiredBefore.add(Token.of(TokenType.BOOLEAN));
-        requiredBefore.add(Token.of(TokenType.NULL));
-        requiredBefore.add(Token.of(TokenType.EXPRESSION, "break"));
-        requiredBefore.add(Token.of(TokenType.EXPRESSION, "continue"));
-        requiredBefore.add(Token.of(TokenType.EXPRESSION, "return"));
-        requiredBefore.add(Token.of(TokenType.OPERATOR, "++"));
-        requiredBefore.add(Token.of(TokenType.OPERATOR, "--"));
-        requiredBefore.add(Token.of(TokenType.CLOSE));
-        requiredBefore.add(Token.of(TokenType.STOP));
-        requiredBefore.add(Token.of(TokenType.END));
-    }
+    private static final Set<TokenType> REQUIRED_TYPES = EnumSet.of(
+        TokenType.IDENTIFIER, TokenType.STRING, TokenType.CHARACTER, TokenType.BYTE, TokenType.UBYTE,
+        TokenType.SHORT, TokenType.USHORT, TokenType.DOUBLE, TokenType.FLOAT, TokenType.LONG, TokenType.ULONG,
+        TokenType.INTEGER, TokenType.UINTEGER, TokenType.HEXADECIMAL, TokenType.BOOLEAN, TokenType.NULL,
+        TokenType.EXPRESSION, TokenType.OPERATOR, TokenType.CLOSE, TokenType.STOP, TokenType.END
+    );
 
     /**
-     * The list of tokens forbidden after the new line for the semicolon to be inserted.
+     * The values of the operator and expression tokens required before the new line.
      */
-    private final List<Token> forbiddenAfter = new ArrayList<>();
-    {
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "="));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "+"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "-"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "*"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "/"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "<"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, ">"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "?"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "!"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "^"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "&"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "~"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "$"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "."));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "%"));
-        forbiddenAfter.add(Token.of(TokenType.OPERATOR, "|"));
-        forbiddenAfter.add(Token.of(TokenType.EXPRESSION, "where"));
-    }
+    private static final Set<String> REQUIRED_VALUES = Set.of("break", "continue", "return", "++", "--");
 
     /**
-     * The list of the input tokens to be transformed.
+     * The types of the tokens forbidden after the new line for the semicolon to be inserted.
+     * The tokens are also required to have one of the {@link #FORBIDDEN_VALUES}.
      */
-    private final List<Token> tokens;
+    private static final Set<TokenType> FORBIDDEN_TYPES = EnumSet.of(TokenType.EXPRESSION, TokenType.OPERATOR);
 
     /**
-     * The currently parsed token.
+     * The values of the operator and expression tokens forbidden after the new line.
      */
-    private Token token = Token.of(TokenType.NONE);
+    private static final Set<String> FORBIDDEN_VALUES = Set.of(
+        "=", "+", "-", "*", "/", "<", ">", "?", "!", "^", "&", "~", "$", ".", "%", "|", "where"
+    );
 
     /**
-     * The previously parsed token.
+     * The input tokens to be transformed.
      */
-    private Token lastToken = Token.of(TokenType.NONE);
+    private final TokenStream tokens;
 
     /**
-     * The next parsed token.
+     * The symbols of the required and forbidden values, if the input tokens have symbols.
      */
-    private Token nextToken = Token.of(TokenType.NONE);
+    private final @Nullable BitSet requiredSymbols, forbiddenSymbols;
 
     /**
-     * The index of the currently parsed token.
+     * Initialize the transformer
+     * @param tokens input tokens
      */
-    private int cursor;
+    public Transformer(List<Token> tokens) {
+        this(TokenStream.of(tokens));
+    }
 
     /**
      * Initialize the transformer
-     * @param tokens input tokens
+     * @param tokens input token stream
      */
-    public Transformer(List<Token> tokens) {
+    public Transformer(TokenStream tokens) {
         this.tokens = tokens;
+        requiredSymbols = symbolsOf(REQUIRED_VALUES);
+        forbiddenSymbols = symbolsOf(FORBIDDEN_VALUES);
+    }
+
+    /**
+     * Get the symbols of the specified values in the symbol table of the input tokens.
+     * @param values the values to get the symbols of
+     * @return the set of the symbols, or null if the input tokens do not have symbols
+     */
+    private @Nullable BitSet symbolsOf(Set<String> values) {
+        SymbolTable symbolTable = tokens.getSymbolTable();
+        if (symbolTable == null)
+            return null;
+        BitSet symbols = new BitSet();
+        for (String value : values)
+            symbols.set(symbolTable.intern(value));
+        return symbols;
+    }
+
+    /**
+     * Indicate, whether a semicolon should be inserted at a new line after the specified token.
+     * @param type the type of the token before the new line
+     * @param value the value of the token before the new line
+     * @return true if the token may end a statement
+     */
+    public static boolean isRequiredBefore(TokenType type, String value) {
+        return REQUIRED_TYPES.contains(type) && (!hasValueRule(type) || REQUIRED_VALUES.contains(value));
+    }
+
+    /**
+     * Indicate, whether a semicolon must not be inserted at a new line before the specified token.
+     * @param type the type of the token after the new line
+     * @param value the value of the token after the new line
+     * @return true if the token continues the statement of the previous line
+     */
+    public static boolean isForbiddenAfter(TokenType type, String value) {
+        return FORBIDDEN_TYPES.contains(type) && FORBIDDEN_VALUES.contains(value);
+    }
+
+    /**
+     * Indicate, whether the tokens of the specified type are matched by their values as well.
+     * @param type the type of the token
+     * @return true if the value of the token must be checked
+     */
+    private static boolean hasValueRule(TokenType type) {
+        return type == TokenType.OPERATOR || type == TokenType.EXPRESSION;
     }
 
     /**
@@ -100,39 +117,36 @@ public class Transformer {
      * @return token list with inserted semicolons
      */
     public List<Token> transform() {
-        List<Token> result = new ArrayList<>();
-
-        // transform tokens while there are more to be parsed
-        while (hasNext()) {
-            // update the currently parsed tokens
-            update();
+        return transformStream().toList();
+    }
 
-            // ignore tokens that are a part of a command
-            // TODO this should be done by the tokenizer
-            // handleCommentLine();
-            // handleCommentBlock();
+    /**
+     * Apply the transformer on the token stream.
+     * @return token stream with inserted semicolons
+     */
+    public TokenStream transformStream() {
+        TokenStream result = new TokenStream(tokens.getSource(), tokens.getSymbolTable());
 
+        // transform tokens while there are more to be parsed
+        for (int cursor = 0; cursor < tokens.size(); cursor++) {
             // ignore the token if it is not a new line
-            if (!token.is(TokenType.NEW_LINE)) {
-                if (!token.is(TokenType.NONE))
-                    result.add(token);
+            TokenType type = tokens.getType(cursor);
+            if (type != TokenType.NEW_LINE) {
+                if (type != TokenType.NONE)
+                    result.add(tokens, cursor);
                 continue;
             }
 
             // check if the token before is one of the required tokens
-            boolean requiredBefore = this.requiredBefore
-                .stream()
-                .anyMatch(element -> equals(element, lastToken));
+            boolean requiredBefore = matches(REQUIRED_TYPES, REQUIRED_VALUES, requiredSymbols, cursor - 1);
 
             // check if the token after is one of the forbidden tokens
-            boolean forbiddenAfter = this.forbiddenAfter
-                .stream()
-                .anyMatch(element -> equals(element, nextToken));
+            boolean forbiddenAfter = matches(FORBIDDEN_TYPES, FORBIDDEN_VALUES, forbiddenSymbols, cursor + 1);
 
             // place a semicolon if the token before the new line is one of the registered tokens,
             // and the token after the new line is not one of the forbidden tokens
             if (requiredBefore && !forbiddenAfter)
-                result.add(Token.of(TokenType.SEMICOLON, "auto"));
+                result.add(TokenType.SEMICOLON, "auto", -1, -1, -1, -1);
 
             // if the requirements do not meet, we are just going to ignore the token
             // there is no need to put a semicolon, because it seems like the expression
@@ -142,89 +156,30 @@ public class Transformer {
             //     .then(|user| println("hi"))
             // return "hello" <- end of method declaration, place a semicolon after
         }
-        return result;
+        return result.trim();
     }
 
     /**
-     * Check if two tokens are equals. Ignore value checking for certain token types.
-     * @param left first token to check
-     * @param right second token to check
-     * @return true if the two tokens are equals
+     * Check if the token at the given index is matched by the specified token classes.
+     * Ignore value checking for certain token types.
+     * @param types the types of the tokens to match
+     * @param values the values of the operator and expression tokens to match
+     * @param symbols the symbols of the values, or null if the values are compared by their content
+     * @param index the index of the token in the stream
+     * @return true if the token is matched by the classes
      */
-    private boolean equals(Token left, Token right) {
-        // make sure both the tokens has the same type
-        if (left.getType() != right.getType())
+    private boolean matches(Set<TokenType> types, Set<String> values, @Nullable BitSet symbols, int index) {
+        TokenType type = tokens.getType(index);
+        if (!types.contains(type))
             return false;
-        switch (left.getType()) {
-            // some tokens' values must be checked as well
-            case OPERATOR:
-            case EXPRESSION:
-                return left.getValue().equals(right.getValue());
-            default:
-                return true;
-        }
-    }
-
-    /**
-     * Update the currently parsed tokens.
-     */
-    private void update() {
-        token     = get(cursor);
-        lastToken = get(cursor - 1);
-        nextToken = get(cursor + 1);
-        cursor++;
-    }
-
-    /**
-     * Ignore tokens that belong to a line of comment.
-     */
-    private void handleCommentLine() {
-        // check for line command start
-        if (!token.is(TokenType.OPERATOR, "/") || !nextToken.is(TokenType.OPERATOR, "/"))
-            return;
-        // loop until a new line starts
-        while (true) {
-            Token token = get(cursor++);
-            // we should also account for end of file
-            if (token.is(TokenType.NEW_LINE, TokenType.FINISH, TokenType.UNEXPECTED)) {
-                update();
-                return;
-            }
+        // some tokens' values must be checked as well
+        if (!hasValueRule(type))
+            return true;
+        // interned values are looked up by their symbols, without reading the token value
+        if (symbols != null) {
+            int symbol = tokens.getSymbol(index);
+            return symbol != SymbolTable.NO_SYMBOL && symbols.get(symbol);
         }
-    }
-
-    /**
-     * Ignore tokens that belong to a block of comments.
-     */
-    private void handleCommentBlock() {
-        // check for block command start
-        if (!token.is(TokenType.OPERATOR, "/") || !nextToken.is(TokenType.OPERATOR, "*"))
-            return;
-        // loop until the comment block ends
-        while (true) {
-            Token first  = get(cursor++);
-            Token second = get(cursor++);
-            // check for the comment block suffix
-            if (first.is(TokenType.OPERATOR, "*") && second.is(TokenType.OPERATOR, "/")) {
-                update();
-                return;
-            }
-        }
-    }
-
-    /**
-     * Determine if there are more tokens to be parsed.
-     * @return true if there are more tokens
-     */
-    private boolean hasNext() {
-        return cursor >= 0 && cursor < tokens.size();
-    }
-
-    /**
-     * Safely get the token at the given index.
-     * @return token at the given index
-     */
-    private Token get(int index) {
-        return index >= 0 && index < tokens.size() ? tokens.get(index) : Token.of(TokenType.NONE);
+        return values.contains(tokens.getValue(index));
     }
 }
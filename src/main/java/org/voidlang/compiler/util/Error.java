@@ -11,7 +11,9 @@ public enum Error {
     MISSING_STRING_TERMINATOR(103),
     INVALID_UNSIGNED_LITERAL(104),
     MULTIPLE_DECIMAL_POINTS(105),
-    CANNOT_HAVE_DECIMAL_POINT(106),;
+    CANNOT_HAVE_DECIMAL_POINT(106),
+    INVALID_NUMBER_LITERAL(107),
+    NUMBER_OUT_OF_RANGE(108),;
 
     private final int code;
 }
@@ -0,0 +1,20 @@
+package org.voidlang.compiler.util;
+
+import lombok.Getter;
+
+/**
+ * Represents an unrecoverable compile error, that is thrown instead of exiting the process,
+ * when the compiler is running in a recoverable mode, such as the watch mode.
+ */
+@Getter
+public class PanicException extends RuntimeException {
+    /**
+     * The exit code that the error would have terminated the process with.
+     */
+    private final int code;
+
+    public PanicException(String message, int code) {
+        super(message);
+        this.code = code;
+    }
+}
@@ -1,8 +1,20 @@
 package org.voidlang.compiler.util;
 
+import lombok.Getter;
+import lombok.Setter;
+
 public class Validate {
+    /**
+     * Indicate, whether a panic should abort the current build instead of exiting the process.
+     */
+    @Getter
+    @Setter
+    private static boolean recoverable;
+
     public static void panic(String message) {
         System.err.printf("Thread %s panic: %s%n", Thread.currentThread().getName(), message);
+        if (recoverable)
+            throw new PanicException(message, -1);
         System.exit(-1);
     }
 }
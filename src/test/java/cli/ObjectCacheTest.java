@@ -0,0 +1,48 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.cli.ObjectCache;
+import org.voidlang.compiler.cli.OptimizationLevel;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObjectCacheTest {
+    @Test
+    public void test() throws Exception {
+        byte[] bitcode = { 'B', 'C', 0x01 };
+        String key = ObjectCache.getKey(bitcode, "x86_64", OptimizationLevel.O0);
+        assertEquals(key, ObjectCache.getKey(bitcode, "x86_64", OptimizationLevel.O0));
+        assertNotEquals(key, ObjectCache.getKey(bitcode, "x86_64", OptimizationLevel.O2));
+        assertNotEquals(key, ObjectCache.getKey(bitcode, "aarch64", OptimizationLevel.O0));
+
+        File dir = Files.createTempDirectory("void-cache").toFile();
+        ObjectCache cache = new ObjectCache(dir, 8);
+
+        File object = new File(dir, "module.o");
+        Files.write(object.toPath(), new byte[] { 1, 2, 3, 4, 5 });
+        File output = new File(dir, "output.o");
+
+        assertFalse(cache.fetch(key, output));
+        cache.store(key, object);
+        assertTrue(cache.fetch(key, output));
+        assertArrayEquals(Files.readAllBytes(object.toPath()), Files.readAllBytes(output.toPath()));
+
+        // a corrupted entry is not copied into the build, and it is removed from the cache
+        Files.write(new File(dir, key + ".obj").toPath(), new byte[] { 1, 2, 3, 4, 6 });
+        assertFalse(cache.fetch(key, output));
+        assertFalse(output.exists());
+        assertNull(cache.getObject(key));
+        cache.store(key, object);
+        assertTrue(cache.fetch(key, output));
+
+        // the least recently used entry is evicted, once the cache grows over its limit
+        String other = ObjectCache.getKey(bitcode, "aarch64", OptimizationLevel.O0);
+        new File(dir, key + ".obj").setLastModified(System.currentTimeMillis() - 10_000);
+        cache.store(other, object);
+        assertFalse(cache.fetch(key, output));
+        assertTrue(cache.fetch(other, output));
+    }
+}
@@ -0,0 +1,26 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.cli.OptimizationLevel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptimizationLevelTest {
+    @Test
+    public void test() {
+        assertEquals(OptimizationLevel.O0, OptimizationLevel.parse("0"));
+        assertEquals(OptimizationLevel.O2, OptimizationLevel.parse("O2"));
+        assertEquals(OptimizationLevel.O3, OptimizationLevel.parse("-O3"));
+        assertEquals(OptimizationLevel.Os, OptimizationLevel.parse("s"));
+        assertEquals(OptimizationLevel.Oz, OptimizationLevel.parse("Oz"));
+
+        assertNull(OptimizationLevel.parse("4"));
+        assertNull(OptimizationLevel.parse("fast"));
+
+        // the projects, that do not configure a level, are optimized
+        assertEquals(OptimizationLevel.O2, OptimizationLevel.DEFAULT);
+
+        assertEquals("default<O2>", OptimizationLevel.O2.getPipeline());
+        assertEquals("-Os", OptimizationLevel.Os.getClangFlag());
+    }
+}
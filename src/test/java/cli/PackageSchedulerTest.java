@@ -0,0 +1,60 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.builder.Application;
+import org.voidlang.compiler.builder.ImportNode;
+import org.voidlang.compiler.builder.Package;
+import org.voidlang.compiler.cli.PackageScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PackageSchedulerTest {
+    @Test
+    public void test() {
+        Application application = new Application();
+        Package main = createPackage(application, "main", "net");
+        Package net = createPackage(application, "net", "io");
+        Package io = createPackage(application, "io", "net");
+        Package math = createPackage(application, "math");
+
+        PackageScheduler scheduler = new PackageScheduler(application.getPackages().values());
+        // the packages that import each other are processed together
+        assertEquals(3, scheduler.getComponents().size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        try {
+            scheduler.run(
+                executor,
+                packages -> packages.forEach(pkg -> events.add("process " + pkg.getName())),
+                pkg -> events.add("compile " + pkg.getName())
+            );
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(8, events.size());
+        assertTrue(events.indexOf("process net") < events.indexOf("process main"));
+        assertTrue(events.indexOf("process io") < events.indexOf("process main"));
+        for (Package pkg : List.of(main, net, io, math))
+            assertTrue(events.indexOf("process " + pkg.getName()) < events.indexOf("compile " + pkg.getName()));
+
+        // a package is not compiled while the packages that import it are processed
+        assertTrue(events.indexOf("process main") < events.indexOf("compile net"));
+        assertTrue(events.indexOf("process main") < events.indexOf("compile io"));
+    }
+
+    private Package createPackage(Application application, String name, String... imports) {
+        Package pkg = new Package(application, null, name);
+        for (String target : imports)
+            pkg.addAndMergeImport(new ImportNode(target));
+        application.addPackage(name, pkg);
+        return pkg;
+    }
+}
@@ -0,0 +1,55 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.cli.CacheServer;
+import org.voidlang.compiler.cli.ObjectCache;
+import org.voidlang.compiler.cli.OptimizationLevel;
+import org.voidlang.compiler.cli.RemoteCache;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RemoteCacheTest {
+    @Test
+    public void test() throws Exception {
+        File dir = Files.createTempDirectory("void-remote-cache").toFile();
+        File serverDir = new File(dir, "server");
+        serverDir.mkdir();
+        ObjectCache serverCache = new ObjectCache(serverDir, 1024 * 1024);
+        CacheServer server = CacheServer.start(0, serverCache, "secret");
+
+        String key = ObjectCache.getKey(new byte[] { 'B', 'C' }, "x86_64", OptimizationLevel.O0);
+        File object = new File(dir, "module.o");
+        Files.write(object.toPath(), new byte[] { 1, 2, 3 });
+        File output = new File(dir, "output.o");
+
+        String url = "http://127.0.0.1:" + server.getPort() + "/";
+        RemoteCache cache = new RemoteCache(url, "secret");
+        try {
+            // the uploads without the token of the server are rejected
+            new RemoteCache(url, "guess").store(key, object);
+            new RemoteCache(url, null).store(key, object);
+            assertFalse(cache.fetch(key, output));
+
+            cache.store(key, object);
+            assertTrue(cache.fetch(key, output));
+            assertArrayEquals(Files.readAllBytes(object.toPath()), Files.readAllBytes(output.toPath()));
+
+            // an object, that does not match the hash it was stored with, is not served
+            Files.write(new File(serverDir, key + ".obj").toPath(), new byte[] { 6, 6, 6 });
+            output.delete();
+            assertFalse(cache.fetch(key, output));
+            assertFalse(output.exists());
+        } finally {
+            server.stop();
+        }
+
+        // the build continues without the cache, once the server is not reachable anymore
+        output.delete();
+        assertFalse(cache.fetch(key, output));
+        assertFalse(output.exists());
+        cache.store(key, object);
+    }
+}
@@ -0,0 +1,50 @@
+package cli;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.cli.SourceLoader;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SourceLoaderTest {
+    @Test
+    public void test() {
+        assertEquals("a\nb\nc\n", decode("a\r\nb\rc").toString());
+        assertEquals("a\n\nb\n", decode("\uFEFFa\r\n\r\nb\n").toString());
+        assertEquals("", decode("").toString());
+
+        // the line numbers of the tokens do not depend on the line ending convention
+        String source = "void main() {\n    println(\"\u00e9\")\n}\n";
+        List<Integer> expected = getLineNumbers(decode(source));
+        assertEquals(expected, getLineNumbers(decode(source.replace("\n", "\r\n"))));
+        assertEquals(expected, getLineNumbers(decode(source.replace("\n", "\r"))));
+        assertEquals(expected, getLineNumbers(CharBuffer.wrap(source)));
+    }
+
+    private static CharBuffer decode(String content) {
+        return SourceLoader.decode(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Integer> getLineNumbers(CharBuffer content) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), content);
+        List<Integer> lines = new ArrayList<>();
+        Token token;
+
+        do {
+            token = tokenizer.next();
+            if (!token.is(TokenType.NEW_LINE))
+                lines.add(token.getMeta().getLineNumber());
+        } while (token.hasNext());
+
+        return lines;
+    }
+}
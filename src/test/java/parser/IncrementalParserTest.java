@@ -0,0 +1,108 @@
+package parser;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.node.Node;
+import org.voidlang.compiler.node.Parser;
+import org.voidlang.compiler.node.SyntaxTree;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+import util.Resources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncrementalParserTest {
+    private static final String[] RESOURCES = {
+        "compiler/ArrayAllocation.vs", "compiler/ClassTest.vs", "compiler/Fibonacci.vs",
+        "compiler/HeapAllocation.vs", "compiler/IfCase.vs", "compiler/TupleMethod.vs"
+    };
+
+    private static final String[] INSERTIONS = { " ", "/* c */" };
+
+    private static final String METHOD = "int extra() {\n    return 1\n}\n\n";
+
+    @Test
+    public void test() {
+        for (String resource : RESOURCES) {
+            String source = Resources.read(resource);
+            SymbolTable symbolTable = new SymbolTable();
+            TokenStream previous = tokenize(source, null, symbolTable);
+            SyntaxTree tree = new Parser(null, previous).parse();
+            assertFalse(tree.hasError(), resource);
+
+            for (int i = 0; i < previous.size(); i++) {
+                int begin = previous.getBegin(i);
+                if (begin < 0 || previous.is(i, TokenType.FINISH))
+                    continue;
+
+                // insert text in front of the token
+                for (String insertion : INSERTIONS)
+                    assertEdit(source.substring(0, begin) + insertion + source.substring(begin),
+                        previous, tree, symbolTable);
+
+                // change the value of a number literal, and replace an assigned one with an expression
+                if (previous.is(i, TokenType.INTEGER)) {
+                    assertEdit(source.substring(0, begin) + "7" + source.substring(previous.getEnd(i)),
+                        previous, tree, symbolTable);
+                    if (previous.is(i - 1, TokenType.OPERATOR, "="))
+                        assertEdit(source.substring(0, begin) + "(7 + 8)" + source.substring(previous.getEnd(i)),
+                            previous, tree, symbolTable);
+                }
+            }
+
+            // insert a method in front of each top-level node
+            for (int i = 0; i < tree.getNodes().size(); i++) {
+                int index = tree.getBegin(i);
+                int begin = index < previous.size() - 1 ? previous.getBegin(index) : source.length();
+                assertEdit(source.substring(0, begin) + METHOD + source.substring(begin), previous, tree, symbolTable);
+            }
+        }
+    }
+
+    private static void assertEdit(String edited, TokenStream previous, SyntaxTree tree, SymbolTable symbolTable) {
+        TokenStream tokens = tokenize(edited, previous, symbolTable);
+        SyntaxTree expected = new Parser(null, tokenize(edited, null, symbolTable)).parse();
+        SyntaxTree actual = new Parser(null, tokens).parse(tree);
+
+        assertEquals(expected.getNodes().size(), actual.getNodes().size());
+        assertArrayEquals(expected.getEnds(), actual.getEnds());
+        assertArrayEquals(expected.getHorizons(), actual.getHorizons());
+        assertEquals(expected.getSize(), actual.getSize());
+        for (int i = 0; i < expected.getNodes().size(); i++)
+            assertEquals(dump(expected.getNodes().get(i)), dump(actual.getNodes().get(i)));
+
+        // the nodes, that have not inspected the edited tokens, are reused
+        int suffix = tree.getSize() - tokens.getReusedSuffix();
+        for (int i = 0; i < tree.getNodes().size(); i++) {
+            Node node = tree.getNodes().get(i);
+            if (tree.getHorizons()[i] < tokens.getReusedPrefix() && node.hasNext())
+                assertSame(node, actual.getNodes().get(i));
+            else if (tree.getBegin(i) >= suffix)
+                assertTrue(actual.getNodes().contains(node));
+        }
+    }
+
+    private static String dump(Node node) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer));
+        try {
+            node.debug();
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString();
+    }
+
+    private static TokenStream tokenize(String source, TokenStream previous, SymbolTable symbolTable) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        tokenizer.setTableDriven(true);
+        tokenizer.setInsertSemicolons(true);
+        return previous != null ? tokenizer.tokenize(previous, symbolTable) : tokenizer.tokenize(symbolTable);
+    }
+}
@@ -0,0 +1,93 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+import util.Resources;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+
+public class IncrementalTokenizerTest {
+    private static final String[] RESOURCES = {
+        "source.vs", "compiler/ArrayAllocation.vs", "compiler/ClassTest.vs", "compiler/Fibonacci.vs",
+        "compiler/HeapAllocation.vs", "compiler/IfCase.vs"
+    };
+
+    private static final String[] INSERTIONS = { " ", "\n", "y ", "\n\n", "let a = 12\n", "/* c */", "return\n" };
+
+    @Test
+    public void test() {
+        for (String resource : RESOURCES) {
+            String source = Resources.read(resource);
+            for (boolean insertSemicolons : new boolean[] { false, true }) {
+                SymbolTable symbolTable = new SymbolTable();
+                TokenStream previous = tokenize(source, insertSemicolons, symbolTable);
+
+                // the unchanged data is tokenized the same way
+                assertSameTokens(previous, tokenize(source, previous, insertSemicolons, symbolTable));
+
+                for (int i = 0; i < previous.size(); i++) {
+                    int begin = previous.getBegin(i);
+                    if (begin < 0 || previous.is(i, TokenType.NEW_LINE) || previous.is(i, TokenType.FINISH))
+                        continue;
+
+                    // insert text in front of the token
+                    for (String insertion : INSERTIONS)
+                        assertEdit(source, source.substring(0, begin) + insertion + source.substring(begin),
+                            previous, insertSemicolons, symbolTable);
+
+                    // remove the token
+                    if (previous.is(i, TokenType.IDENTIFIER) || previous.is(i, TokenType.OPERATOR))
+                        assertEdit(source, source.substring(0, begin) + source.substring(previous.getEnd(i)),
+                            previous, insertSemicolons, symbolTable);
+                }
+            }
+        }
+    }
+
+    private static void assertEdit(
+        String source, String edited, TokenStream previous, boolean insertSemicolons, SymbolTable symbolTable
+    ) {
+        TokenStream expected = tokenize(edited, insertSemicolons, symbolTable);
+        TokenStream actual = tokenize(edited, previous, insertSemicolons, symbolTable);
+        assertSameTokens(expected, actual);
+
+        // the edit can be reverted incrementally as well
+        assertSameTokens(previous, tokenize(source, actual, insertSemicolons, symbolTable));
+    }
+
+    private static void assertSameTokens(TokenStream expected, TokenStream actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getType(i), actual.getType(i));
+            assertEquals(expected.getValue(i), actual.getValue(i));
+            assertEquals(expected.getSymbol(i), actual.getSymbol(i));
+            assertEquals(expected.getNumber(i), actual.getNumber(i));
+            assertEquals(expected.getBegin(i), actual.getBegin(i));
+            assertEquals(expected.getEnd(i), actual.getEnd(i));
+            assertEquals(expected.getLine(i), actual.getLine(i));
+            assertEquals(expected.getColumn(i), actual.getColumn(i));
+        }
+    }
+
+    private static TokenStream tokenize(String source, boolean insertSemicolons, SymbolTable symbolTable) {
+        return createTokenizer(source, insertSemicolons).tokenize(symbolTable);
+    }
+
+    private static TokenStream tokenize(
+        String source, TokenStream previous, boolean insertSemicolons, SymbolTable symbolTable
+    ) {
+        return createTokenizer(source, insertSemicolons).tokenize(previous, symbolTable);
+    }
+
+    private static Tokenizer createTokenizer(String source, boolean insertSemicolons) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        tokenizer.setTableDriven(true);
+        tokenizer.setInsertSemicolons(insertSemicolons);
+        return tokenizer;
+    }
+}
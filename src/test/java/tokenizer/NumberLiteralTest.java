@@ -0,0 +1,67 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NumberLiteralTest {
+    @Test
+    public void test() {
+        for (boolean tableDriven : new boolean[] { false, true }) {
+            assertInteger("1337", TokenType.INTEGER, 1337, tableDriven);
+            assertInteger("1_000_000", TokenType.INTEGER, 1_000_000, tableDriven);
+            assertInteger("2147483647", TokenType.INTEGER, Integer.MAX_VALUE, tableDriven);
+            assertInteger("127B", TokenType.BYTE, 127, tableDriven);
+            assertInteger("u255B", TokenType.UBYTE, 255, tableDriven);
+            assertInteger("32767S", TokenType.SHORT, Short.MAX_VALUE, tableDriven);
+            assertInteger("u65535s", TokenType.USHORT, 65535, tableDriven);
+            assertInteger("u4294967295", TokenType.UINTEGER, 0xFFFFFFFFL, tableDriven);
+            assertInteger("9223372036854775807L", TokenType.LONG, Long.MAX_VALUE, tableDriven);
+            assertInteger("u18446744073709551615L", TokenType.ULONG, -1L, tableDriven);
+            assertInteger("0xFF", TokenType.HEXADECIMAL, 0xFF, tableDriven);
+            assertInteger("0xFFFFFFFFFFFFFFFF", TokenType.HEXADECIMAL, -1L, tableDriven);
+            assertInteger("0b101", TokenType.BINARY, 0b101, tableDriven);
+
+            assertFloating("12.5", TokenType.DOUBLE, 12.5, tableDriven);
+            assertFloating("0.1", TokenType.DOUBLE, 0.1, tableDriven);
+            assertFloating("1_000.25", TokenType.DOUBLE, 1000.25, tableDriven);
+            assertFloating("3D", TokenType.DOUBLE, 3.0, tableDriven);
+            assertFloating("1.5E3", TokenType.DOUBLE, 1500.0, tableDriven);
+            assertFloating("3.141592653589793238", TokenType.DOUBLE, 3.141592653589793238, tableDriven);
+            assertFloating("2.5F", TokenType.FLOAT, 2.5F, tableDriven);
+            assertFloating("0.1F", TokenType.FLOAT, 0.1F, tableDriven);
+            assertFloating("16777217.5F", TokenType.FLOAT, 16777217.5F, tableDriven);
+        }
+
+        // the decoded values are kept in the token stream
+        TokenStream stream = new Tokenizer(new File(""), "let a = 0x10 + 2.5\n").tokenize();
+        assertEquals(16, stream.getNumber(3));
+        assertEquals(2.5, Double.longBitsToDouble(stream.getNumber(5)));
+        assertEquals(16, stream.get(3).getNumber());
+        assertEquals(0, stream.getNumber(0));
+    }
+
+    private static void assertInteger(String source, TokenType type, long expected, boolean tableDriven) {
+        Token token = tokenize(source, tableDriven);
+        assertEquals(type, token.getType(), source);
+        assertEquals(expected, token.getNumber(), source);
+    }
+
+    private static void assertFloating(String source, TokenType type, double expected, boolean tableDriven) {
+        Token token = tokenize(source, tableDriven);
+        assertEquals(type, token.getType(), source);
+        assertEquals(expected, token.getFloatingNumber(), source);
+    }
+
+    private static Token tokenize(String source, boolean tableDriven) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source + "\n");
+        tokenizer.setTableDriven(tableDriven);
+        return tokenizer.next();
+    }
+}
@@ -0,0 +1,69 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenMeta;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+import org.voidlang.compiler.token.Transformer;
+import util.Resources;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SemicolonInsertionTest {
+    @Test
+    public void test() {
+        String source = Resources.read("source.vs");
+        assertSameAsTransformer(source, false);
+        assertSameAsTransformer(source, true);
+
+        String snippet = "let a = b\n\n    .c()\nreturn\n\nlet d = 1 +\n    2\nfoo(\n)\n";
+        assertSameAsTransformer(snippet, false);
+        assertSameAsTransformer(snippet, true);
+
+        // the new lines are not stored in the stream, and the statements are terminated
+        TokenStream stream = tokenize(snippet, true, null);
+        for (int i = 0; i < stream.size(); i++)
+            assertNotEquals(TokenType.NEW_LINE, stream.getType(i));
+        assertTrue(stream.toList().stream().anyMatch(token -> token.is(TokenType.SEMICOLON, "auto")));
+    }
+
+    private static void assertSameAsTransformer(String source, boolean tableDriven) {
+        SymbolTable symbolTable = new SymbolTable();
+        List<Token> expected = new Transformer(tokenize(source, tableDriven, false, symbolTable)).transform();
+        List<Token> actual = tokenize(source, tableDriven, true, symbolTable).toList();
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+            assertEquals(expected.get(i).getSymbol(), actual.get(i).getSymbol());
+
+            TokenMeta expectedMeta = expected.get(i).getMeta();
+            TokenMeta actualMeta = actual.get(i).getMeta();
+            assertEquals(expectedMeta == null, actualMeta == null);
+            if (expectedMeta != null) {
+                assertEquals(expectedMeta.getBeginIndex(), actualMeta.getBeginIndex());
+                assertEquals(expectedMeta.getLineNumber(), actualMeta.getLineNumber());
+            }
+        }
+    }
+
+    private static TokenStream tokenize(String source, boolean insertSemicolons, SymbolTable symbolTable) {
+        return tokenize(source, true, insertSemicolons, symbolTable);
+    }
+
+    private static TokenStream tokenize(
+        String source, boolean tableDriven, boolean insertSemicolons, SymbolTable symbolTable
+    ) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        tokenizer.setTableDriven(tableDriven);
+        tokenizer.setInsertSemicolons(insertSemicolons);
+        return tokenizer.tokenize(symbolTable);
+    }
+}
@@ -0,0 +1,70 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.Symbol;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+import org.voidlang.compiler.token.Transformer;
+import util.Resources;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SymbolTableTest {
+    @Test
+    public void test() {
+        SymbolTable symbolTable = new SymbolTable();
+
+        // the same spelling is assigned the same id, and the canonical value is the literal instance
+        int id = symbolTable.intern(new String("println"));
+        assertEquals(id, symbolTable.intern("println"));
+        assertEquals(id, symbolTable.lookup("println"));
+        assertSame("println", symbolTable.getName(id));
+        assertEquals(SymbolTable.NO_SYMBOL, symbolTable.lookup("undefined"));
+
+        String source = Resources.read("source.vs");
+        TokenStream plain = new Transformer(new Tokenizer(new File(""), source).tokenize()).transformStream();
+        TokenStream interned = new Transformer(new Tokenizer(new File(""), source).tokenize(symbolTable))
+            .transformStream();
+
+        // the symbols do not change the tokens and the inserted semicolons
+        List<Token> expected = plain.toList();
+        List<Token> actual = interned.toList();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+        }
+
+        for (int i = 0; i < interned.size(); i++) {
+            TokenType type = interned.getType(i);
+            if (!TokenStream.isSymbol(type)) {
+                assertEquals(SymbolTable.NO_SYMBOL, interned.getSymbol(i));
+                continue;
+            }
+            // the tokens of the same spelling share the symbol and the value instance
+            int symbol = interned.getSymbol(i);
+            assertEquals(symbolTable.lookup(interned.getValue(i)), symbol);
+            assertSame(symbolTable.getName(symbol), interned.getValue(i));
+            assertEquals(symbol, interned.get(i).getSymbol());
+        }
+
+        assertSame("package", interned.getValue(0));
+
+        // the predefined symbols have the same ids in every table, and the tokens are matched by them
+        for (Symbol symbol : Symbol.values()) {
+            assertEquals(symbol.getId(), symbolTable.lookup(symbol.getName()));
+            assertEquals(symbol.getId(), new SymbolTable().lookup(symbol.getName()));
+        }
+        assertTrue(interned.is(0, TokenType.INFO, Symbol.PACKAGE));
+        assertFalse(interned.is(0, TokenType.INFO, Symbol.IMPORT));
+        assertTrue(interned.get(0).is(TokenType.INFO, Symbol.PACKAGE));
+        assertTrue(plain.is(0, TokenType.INFO, Symbol.PACKAGE));
+        assertTrue(plain.get(0).is(TokenType.INFO, Symbol.PACKAGE));
+    }
+}
@@ -0,0 +1,108 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.SymbolTable;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenMeta;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.Tokenizer;
+import util.Resources;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TableDrivenTokenizerTest {
+    private static final String[] RESOURCES = {
+        "source.vs", "tokenizer/input.vs", "compiler/ArrayAllocation.vs", "compiler/ClassTest.vs",
+        "compiler/Fibonacci.vs", "compiler/HeapAllocation.vs", "compiler/IfCase.vs", "compiler/TestPrimitiveCasting.vs"
+    };
+
+    @Test
+    public void test() {
+        for (String resource : RESOURCES)
+            assertSameTokens(Resources.read(resource));
+
+        assertSameTokens(
+            "package main\n" +
+            "import std::io\n" +
+            "// a line comment with symbols: 12 \"x\" {}\n" +
+            "/* a block\n comment */ @Native\n" +
+            "void main() {\n" +
+            "    let hex = 0xFF + 0b101 + 12 + 00 + 1_000 + 12.5 + 2.5F + 3L + 7b + u8 + u16s\n" +
+            "    let $value = h\u00e9llo.world[0] != null && true || !false\n" +
+            "    println(\"escaped \\\"text\\\"\\n\", 'c', '\\'')\n" +
+            "    x >>= 2; y <= 3; z?.call(); w |= 1 % 2 ^ 3 ~ 4\n" +
+            "}\n"
+        );
+
+        // the spellings of the identifiers outgrow the initial capacity of their table
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            builder.append("let value").append(i).append(" = value").append(i / 2).append(" + 2147483647\n");
+        assertSameTokens(builder.toString());
+    }
+
+    private static void assertSameTokens(String source) {
+        List<Token> expected = tokenize(source, false);
+        List<Token> actual = tokenize(source, true);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Token expectedToken = expected.get(i);
+            Token actualToken = actual.get(i);
+            assertEquals(expectedToken.getType(), actualToken.getType());
+            assertEquals(expectedToken.getValue(), actualToken.getValue());
+
+            TokenMeta expectedMeta = expectedToken.getMeta();
+            TokenMeta actualMeta = actualToken.getMeta();
+            assertEquals(expectedMeta.getBeginIndex(), actualMeta.getBeginIndex());
+            assertEquals(expectedMeta.getEndIndex(), actualMeta.getEndIndex());
+            assertEquals(expectedMeta.getLineIndex(), actualMeta.getLineIndex());
+            assertEquals(expectedMeta.getLineNumber(), actualMeta.getLineNumber());
+        }
+
+        // the tokens, that are written into the stream without a token object, are stored the same way
+        SymbolTable symbolTable = new SymbolTable();
+        for (boolean insertSemicolons : new boolean[] { false, true }) {
+            TokenStream expectedStream = tokenize(source, false, insertSemicolons, symbolTable);
+            TokenStream actualStream = tokenize(source, true, insertSemicolons, symbolTable);
+
+            assertEquals(expectedStream.size(), actualStream.size());
+            for (int i = 0; i < expectedStream.size(); i++) {
+                assertEquals(expectedStream.getType(i), actualStream.getType(i));
+                assertEquals(expectedStream.getValue(i), actualStream.getValue(i));
+                assertEquals(expectedStream.getSymbol(i), actualStream.getSymbol(i));
+                assertEquals(expectedStream.getNumber(i), actualStream.getNumber(i));
+                assertEquals(expectedStream.getBegin(i), actualStream.getBegin(i));
+                assertEquals(expectedStream.getEnd(i), actualStream.getEnd(i));
+                assertEquals(expectedStream.getColumn(i), actualStream.getColumn(i));
+                assertEquals(expectedStream.getLine(i), actualStream.getLine(i));
+            }
+        }
+    }
+
+    private static TokenStream tokenize(
+        String source, boolean tableDriven, boolean insertSemicolons, SymbolTable symbolTable
+    ) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        tokenizer.setTableDriven(tableDriven);
+        tokenizer.setInsertSemicolons(insertSemicolons);
+        return tokenizer.tokenize(symbolTable);
+    }
+
+    private static List<Token> tokenize(String source, boolean tableDriven) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        tokenizer.setTableDriven(tableDriven);
+        List<Token> tokens = new ArrayList<>();
+        Token token;
+
+        do {
+            tokens.add(token = tokenizer.next());
+        } while (token.hasNext());
+
+        return tokens;
+    }
+}
@@ -0,0 +1,61 @@
+package tokenizer;
+
+import org.junit.jupiter.api.Test;
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.TokenMeta;
+import org.voidlang.compiler.token.TokenStream;
+import org.voidlang.compiler.token.TokenType;
+import org.voidlang.compiler.token.Tokenizer;
+import org.voidlang.compiler.token.Transformer;
+import util.Resources;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenStreamTest {
+    @Test
+    public void test() {
+        String source = Resources.read("source.vs");
+
+        List<Token> tokens = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(new File(""), source);
+        Token token;
+        do {
+            tokens.add(token = tokenizer.next());
+        } while (token.hasNext());
+
+        // the stream holds the same tokens as the token objects
+        TokenStream stream = new Tokenizer(new File(""), source).tokenize();
+        assertSameTokens(tokens, stream.toList());
+        assertTrue(stream.is(0, TokenType.INFO, "package"));
+        assertFalse(stream.is(0, TokenType.INFO, "import"));
+        assertEquals(TokenType.NONE, stream.getType(stream.size()));
+
+        // the semicolons are inserted the same way into the stream, as into the token list
+        List<Token> transformed = new Transformer(tokens).transform();
+        TokenStream transformedStream = new Transformer(stream).transformStream();
+        assertSameTokens(transformed, transformedStream.toList());
+        assertTrue(transformed.stream().anyMatch(element -> element.is(TokenType.SEMICOLON, "auto")));
+    }
+
+    private static void assertSameTokens(List<Token> expected, List<Token> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getType(), actual.get(i).getType());
+            assertEquals(expected.get(i).getValue(), actual.get(i).getValue());
+
+            TokenMeta expectedMeta = expected.get(i).getMeta();
+            TokenMeta actualMeta = actual.get(i).getMeta();
+            assertEquals(expectedMeta == null, actualMeta == null);
+            if (expectedMeta == null)
+                continue;
+            assertEquals(expectedMeta.getBeginIndex(), actualMeta.getBeginIndex());
+            assertEquals(expectedMeta.getEndIndex(), actualMeta.getEndIndex());
+            assertEquals(expectedMeta.getLineIndex(), actualMeta.getLineIndex());
+            assertEquals(expectedMeta.getLineNumber(), actualMeta.getLineNumber());
+        }
+    }
+}
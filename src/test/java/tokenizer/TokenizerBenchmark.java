@@ -0,0 +1,66 @@
+package tokenizer;
+
+import org.voidlang.compiler.token.Token;
+import org.voidlang.compiler.token.Tokenizer;
+import util.Resources;
+
+import java.io.File;
+
+/**
+ * Compares the throughput of the predicate and the table-driven lexer on a large generated input.
+ * The benchmark is not a part of the test suite, run it from the test classpath with an optional
+ * argument of the input size in megabytes.
+ */
+public class TokenizerBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+
+        String[] resources = { "source.vs", "compiler/ClassTest.vs", "compiler/Fibonacci.vs", "compiler/IfCase.vs" };
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < megabytes * 1024 * 1024) {
+            for (String resource : resources)
+                builder.append(Resources.read(resource));
+        }
+        char[] source = builder.toString().toCharArray();
+
+        System.out.printf("input: %d MB, %d characters%n", megabytes, source.length);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            tokenize(source, false);
+            tokenize(source, true);
+        }
+
+        long predicates = measure(source, false);
+        long tables = measure(source, true);
+
+        System.out.printf("predicates: %8.2f ms/round%n", predicates / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("tables:     %8.2f ms/round%n", tables / 1e6 / MEASURED_ROUNDS);
+        System.out.printf("speedup:    %8.2fx%n", (double) predicates / tables);
+    }
+
+    private static long measure(char[] source, boolean tableDriven) {
+        long start = System.nanoTime();
+        int tokens = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++)
+            tokens += tokenize(source, tableDriven);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%s: %d tokens%n", tableDriven ? "tables" : "predicates", tokens / MEASURED_ROUNDS);
+        return elapsed;
+    }
+
+    private static int tokenize(char[] source, boolean tableDriven) {
+        Tokenizer tokenizer = new Tokenizer(new File(""), source, source.length);
+        tokenizer.setTableDriven(tableDriven);
+        int count = 0;
+        Token token;
+
+        do {
+            token = tokenizer.next();
+            count++;
+        } while (token.hasNext());
+
+        return count;
+    }
+}
@@ -0,0 +1,8 @@
+int main() {
+    let arr = [10, 20, 30, 40]
+
+    let a = arr[3]
+    let b = arr[1]
+
+    return a - b
+}